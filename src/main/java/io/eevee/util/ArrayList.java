@@ -1,9 +1,12 @@
 package io.eevee.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-
-import static java.lang.Math.floorMod;
+import java.util.function.Predicate;
 
 /**
  * Array list implementation of the {@code List} interface.
@@ -16,26 +19,52 @@ import static java.lang.Math.floorMod;
  *   <li>Remove - O(n)
  * </ul>
  *
+ * <p>Elements are stored in a circular buffer starting at {@code head}, so elements can be added to or removed from
+ * either end in constant time. Inserts and removes in the middle of the list shift whichever side of the index holds
+ * fewer elements, moving them in blocks with {@code System.arraycopy}.
+ *
+ * <p>How the array grows when full, and whether it shrinks again as elements are removed, is decided by the
+ * {@code GrowthPolicy} the list was created with. By default it doubles and never shrinks.
+ *
  * @see List
+ * @see GrowthPolicy
  * @param <E> the type of the elements stored in this collection
  */
 public class ArrayList<E> implements List<E> {
     private int head;
     private int size;
     private Object[] array;
+    private int peakCapacity;
+    private final GrowthPolicy growthPolicy;
 
     private static final int DEFAULT_CAPACITY = 10;
 
     ArrayList() {
+        this(GrowthPolicy.DEFAULT);
+    }
+
+    ArrayList(GrowthPolicy growthPolicy) {
+        this.growthPolicy = requireNonNull(growthPolicy);
         head = 0;
         size = 0;
-        array = new Object[DEFAULT_CAPACITY];
+        array = new Object[initialCapacity()];
+        peakCapacity = array.length;
+    }
+
+    // Copies the elements into a new list, sized for them plus room to grow.
+    ArrayList(Object[] elements) {
+        head = 0;
+        size = elements.length;
+        array = new Object[Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >>> 1))];
+        System.arraycopy(elements, 0, array, 0, elements.length);
+        peakCapacity = array.length;
+        growthPolicy = GrowthPolicy.DEFAULT;
     }
 
     /**
      * Inserts the element at the specific index.
      *
-     * <p>Complexity: O(1) - (Amortized)
+     * <p>Complexity: O(1) at either end of the list (Amortized), O(n) otherwise.
      *
      * @param index index at which the specified element is to be inserted
      * @param element element to be inserted
@@ -44,21 +73,15 @@ public class ArrayList<E> implements List<E> {
     @Override
     public void add(int index, E element) {
         if (index < 0 || index > size) throw new IndexOutOfBoundsException();
-        if (size == array.length) grow();
+        if (size == array.length) grow(size + 1);
 
-        if (size == 0) {
-            array[head] = element;
-        } else if (index == 0) {
+        if (index < (size - index)) {
             head = calculateAdjustedIndex(-1);
-            array[head] = element;
-        } else if (index < size) {
-            for (int i = (size - 1); i >= index; i--) {
-                array[calculateAdjustedIndex(i+1)] = array[calculateAdjustedIndex(i)];
-            }
-            array[calculateAdjustedIndex(index)] = element;
+            moveRange(1, 0, index);
         } else {
-            array[calculateAdjustedIndex(size)] = element;
+            moveRange(index, index + 1, size - index);
         }
+        array[calculateAdjustedIndex(index)] = element;
         size++;
     }
 
@@ -74,6 +97,53 @@ public class ArrayList<E> implements List<E> {
         add(size, element);
     }
 
+    /**
+     * Inserts every element of the collection, in iteration order, at the end of the list.
+     *
+     * <p>Complexity: O(k) (Amortized).
+     *
+     * @param elements elements to be appended
+     */
+    public void addAll(Collection<? extends E> elements) {
+        addAll(size, elements);
+    }
+
+    /**
+     * Inserts every element of the collection, in iteration order, starting at the specified index.
+     *
+     * <p>The list grows at most once and the elements on the shorter side of the index are shifted once, whatever
+     * the number of elements inserted.
+     *
+     * <p>Complexity: O(n + k).
+     *
+     * @param index index at which the first element is to be inserted
+     * @param elements elements to be inserted
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()})
+     */
+    public void addAll(int index, Collection<? extends E> elements) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        Iterable<? extends E> source = elements;
+        if (elements == this) {
+            Object[] snapshot = new Object[size];
+            copyTo(snapshot);
+            source = (Iterable<? extends E>) Arrays.asList(snapshot);
+        }
+        int count = elements.size();
+        if (size + count > array.length) grow(size + count);
+
+        if (index < (size - index)) {
+            head = calculateAdjustedIndex(-count);
+            moveRange(count, 0, index);
+        } else {
+            moveRange(index, index + count, size - index);
+        }
+        int position = index;
+        for (E element : source) {
+            array[calculateAdjustedIndex(position++)] = element;
+        }
+        size += count;
+    }
+
     /**
      * Inserts the element at the beginning of the list.
      *
@@ -96,15 +166,69 @@ public class ArrayList<E> implements List<E> {
         add(size, element);
     }
 
+    /**
+     * Searches the sorted list for the element.
+     *
+     * <p>The list must already be sorted by the comparator, if it contains equal elements any one of them may be
+     * found.
+     *
+     * <p>Complexity: O(log(n)).
+     *
+     * @param element element to search the list for
+     * @param comparator comparator the list is sorted by, or null if sorted by the natural ordering of the elements
+     * @return index of the element if it is in the list, otherwise {@code (-(insertion point) - 1)} where the
+     * insertion point is the index at which the element would be inserted to keep the list sorted
+     */
+    public int binarySearch(E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(array[calculateAdjustedIndex(middle)], element, comparator);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // Only valid for indexes within a single capacity of the head, which is all the list ever requires, and cheaper
+    // than a modulo.
     private int calculateAdjustedIndex(int index) {
-        return floorMod((head + index), array.length);
+        int adjustedIndex = head + index;
+        if (adjustedIndex >= array.length) {
+            return adjustedIndex - array.length;
+        } else if (adjustedIndex < 0) {
+            return adjustedIndex + array.length;
+        } else {
+            return adjustedIndex;
+        }
     }
 
-    // Visible and strictly available for testing
-    int capacity() {
+    /**
+     * Returns the number of elements the list can hold before it must grow.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return capacity of the list
+     */
+    public int capacity() {
         return array.length;
     }
 
+    // Nulls out count slots starting at the logical index from, so removed elements can be garbage collected.
+    private void clearRange(int from, int count) {
+        if (count == 0) return;
+        int start = calculateAdjustedIndex(from);
+        int firstSegment = Math.min(count, array.length - start);
+        Arrays.fill(array, start, start + firstSegment, null);
+        Arrays.fill(array, 0, count - firstSegment, null);
+    }
+
     /**
      * Empties the list.
      *
@@ -114,7 +238,7 @@ public class ArrayList<E> implements List<E> {
     public void clear() {
         head = 0;
         size = 0;
-        array = new Object[DEFAULT_CAPACITY];
+        array = new Object[initialCapacity()];
     }
 
     /**
@@ -128,25 +252,45 @@ public class ArrayList<E> implements List<E> {
     @Override
     public boolean contains(E element) {
         for (int i = 0; i < size; i++) {
-            if (element.equals((E) array[i])) return true;
+            if (element.equals((E) array[calculateAdjustedIndex(i)])) return true;
         }
         return false;
     }
 
+    private int compare(Object position, E element, Comparator<? super E> comparator) {
+        if (comparator == null) return ((Comparable<? super E>) position).compareTo(element);
+        return comparator.compare((E) position, element);
+    }
+
+    // Copies the elements in order to the start of the destination array, at most two copies are required as the
+    // elements may wrap around the end of the array.
+    private void copyTo(Object[] destination) {
+        int firstSegment = Math.min(size, array.length - head);
+        System.arraycopy(array, head, destination, 0, firstSegment);
+        System.arraycopy(array, 0, destination, firstSegment, size - firstSegment);
+    }
+
     /**
-     * If required increases the capacity of the array to the specified size
+     * If required increases the capacity of the array to the specified size, never beyond the maximum capacity of the
+     * growth policy.
      *
      * @param minCapacity minimum capacity required
      */
     public void ensureCapacity(int minCapacity) {
-        if (array.length < minCapacity) {
-            Object[] resizedArray = new Object[minCapacity];
-            for (int i = 0; i < size; i++) {
-                resizedArray[i] = array[calculateAdjustedIndex(i)];
-            }
-            head = 0;  
-            array = resizedArray;
-        }
+        int capacity = Math.min(minCapacity, growthPolicy.maximumCapacity());
+        if (array.length < capacity) resize(capacity);
+    }
+
+    /**
+     * Returns an immutable copy of the list held in an array of exactly its size, which can be shared between threads
+     * without synchronization.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return frozen copy of the list
+     */
+    public FrozenList<E> freeze() {
+        return new FrozenList<>(toArray());
     }
 
     /**
@@ -190,12 +334,38 @@ public class ArrayList<E> implements List<E> {
         return (E) array[calculateAdjustedIndex(size - 1)];
     }
 
-    private void grow() {
-        if (array.length > (DEFAULT_CAPACITY / 2)) {
-            ensureCapacity(array.length * 2);
-        } else {
-            ensureCapacity(DEFAULT_CAPACITY);
-        }
+    // Small lists jump straight to the default capacity rather than growing by a slot or two at a time.
+    private void grow(int minCapacity) {
+        ensureCapacity(growthPolicy.grow(array.length, Math.max(minCapacity, initialCapacity())));
+    }
+
+    // The default capacity, unless the growth policy caps the list below it.
+    private int initialCapacity() {
+        return Math.min(DEFAULT_CAPACITY, growthPolicy.maximumCapacity());
+    }
+
+    /**
+     * Inserts the element into the list sorted by the natural ordering of its elements, after any equal elements.
+     *
+     * <p>Complexity: O(n), a binary search followed by a single block shift.
+     *
+     * @param element element to be inserted
+     * @throws ClassCastException the element is not comparable with the elements of the list
+     */
+    public void insertSorted(E element) {
+        insertSorted(element, null);
+    }
+
+    /**
+     * Inserts the element into the list sorted by the comparator, after any equal elements.
+     *
+     * <p>Complexity: O(n), a binary search followed by a single block shift.
+     *
+     * @param element element to be inserted
+     * @param comparator comparator the list is sorted by, or null if sorted by the natural ordering of the elements
+     */
+    public void insertSorted(E element, Comparator<? super E> comparator) {
+        add(upperBound(element, comparator), element);
     }
 
     /**
@@ -214,7 +384,7 @@ public class ArrayList<E> implements List<E> {
         }
 
         public E next() {
-            return (E) array[index++];
+            return (E) array[calculateAdjustedIndex(index++)];
         }
 
         public boolean hasNext() {
@@ -222,26 +392,142 @@ public class ArrayList<E> implements List<E> {
         }
     }
 
+    /**
+     * Returns the index of the first element in the sorted list which is not less than the specified element.
+     *
+     * <p>Complexity: O(log(n)).
+     *
+     * @param element element to compare against
+     * @param comparator comparator the list is sorted by, or null if sorted by the natural ordering of the elements
+     * @return index of the first element not less than the specified element, or {@code size()} if there is none
+     */
+    public int lowerBound(E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(array[calculateAdjustedIndex(middle)], element, comparator) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Moves count elements starting at the logical index from so that they start at the logical index to. The copy is
+    // split wherever the source or destination wraps around the end of the array, and runs from the far end when
+    // moving towards the tail so overlapping elements are read before they are overwritten.
+    private void moveRange(int from, int to, int count) {
+        if (to > from) {
+            while (count > 0) {
+                int sourceEnd = calculateAdjustedIndex(from + count - 1) + 1;
+                int destinationEnd = calculateAdjustedIndex(to + count - 1) + 1;
+                int length = Math.min(count, Math.min(sourceEnd, destinationEnd));
+                System.arraycopy(array, sourceEnd - length, array, destinationEnd - length, length);
+                count -= length;
+            }
+        } else {
+            while (count > 0) {
+                int source = calculateAdjustedIndex(from);
+                int destination = calculateAdjustedIndex(to);
+                int length = Math.min(count, Math.min(array.length - source, array.length - destination));
+                System.arraycopy(array, source, array, destination, length);
+                from += length;
+                to += length;
+                count -= length;
+            }
+        }
+    }
+
+    /**
+     * Sorts the list in place, the sort is stable.
+     *
+     * <p>The elements are sorted within the existing array, it is only rotated first when the elements wrap around its
+     * end.
+     *
+     * <p>Complexity: O(n log(n)).
+     *
+     * @param comparator comparator ordering the elements, or null to use their natural ordering
+     * @throws ClassCastException comparator is null and the elements are not mutually comparable
+     */
+    public void sort(Comparator<? super E> comparator) {
+        normalize();
+        Arrays.sort((E[]) array, head, head + size, comparator);
+    }
+
+    /**
+     * Returns a new array holding the elements of the list in order.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return array of the elements in the list
+     */
+    public Object[] toArray() {
+        Object[] elements = new Object[size];
+        copyTo(elements);
+        return elements;
+    }
+
     /**
      * Trims the list to the exact size of the number of elements in the list.
      *
      * <p>Complexity: O(n).
      */
     public void trimToSize() {
-        if (array.length > size){
-            Object[] trimmedArray = new Object[size];
-            for (int i = 0; i < size; i++) {
-                trimmedArray[i] = array[calculateAdjustedIndex(i)];
-            }
-            head = 0;
-            array = trimmedArray;
-        }
+        if (array.length > size) resize(size);
+    }
+
+    /**
+     * Returns the number of unused slots in the array, the capacity held by the list but not occupied by elements.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return unused capacity of the list
+     */
+    public int unusedCapacity() {
+        return array.length - size;
+    }
+
+    // Rotates the array in place so the elements start at index zero, only required when they wrap around the end of
+    // the array. Three reversals rotate without allocating a second array.
+    private void normalize() {
+        if (head + size <= array.length) return;
+        reverse(0, head);
+        reverse(head, array.length);
+        reverse(0, array.length);
+        head = 0;
+    }
+
+    /**
+     * Sorts the list in place into parallel sub-arrays merged on the common {@code ForkJoinPool}, falling back to a
+     * sequential sort for small lists.
+     *
+     * <p>Complexity: O(n log(n)).
+     *
+     * @param comparator comparator ordering the elements, or null to use their natural ordering
+     * @throws ClassCastException comparator is null and the elements are not mutually comparable
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        normalize();
+        Arrays.parallelSort((E[]) array, head, head + size, comparator);
+    }
+
+    /**
+     * Returns the largest capacity the list has held, showing how far a burst of additions grew it.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return peak capacity of the list
+     */
+    public int peakCapacity() {
+        return peakCapacity;
     }
 
     /**
      * Removes the element at the specified position in the list.
      *
-     * <p>Complexity: O(n).
+     * <p>Complexity: O(1) at either end of the list, O(n) otherwise.
      *
      * @param index index of the element to be removed
      * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()}) or if 
@@ -250,18 +536,16 @@ public class ArrayList<E> implements List<E> {
     @Override
     public void remove(int index) {
         if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
-        if (index == 0) {
-            array[calculateAdjustedIndex(0)] = null;
+        if (index < (size - 1 - index)) {
+            moveRange(0, 1, index);
+            array[head] = null;
             head = calculateAdjustedIndex(1);
-        } else if (index < (size - 1)) {
-            for (int i = (index + 1); i < size; i++) {
-                array[calculateAdjustedIndex(i - 1)] = array[calculateAdjustedIndex(i)];
-            }
-            array[calculateAdjustedIndex(size - 1)] = null;
         } else {
+            moveRange(index + 1, index, size - 1 - index);
             array[calculateAdjustedIndex(size - 1)] = null;
         }
         size--;
+        shrinkIfSparse();
     }
 
     /**
@@ -281,6 +565,59 @@ public class ArrayList<E> implements List<E> {
         }
     }
 
+    /**
+     * Removes every element which satisfies the predicate.
+     *
+     * <p>The remaining elements are compacted in a single pass.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param filter predicate returning true for elements to be removed
+     * @return true if any elements were removed
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Object element = array[calculateAdjustedIndex(i)];
+            if (!filter.test((E) element)) {
+                if (kept != i) array[calculateAdjustedIndex(kept)] = element;
+                kept++;
+            }
+        }
+        clearRange(kept, size - kept);
+        boolean removed = kept != size;
+        size = kept;
+        shrinkIfSparse();
+        return removed;
+    }
+
+    /**
+     * Removes the elements from the first index, inclusive, to the second index, exclusive.
+     *
+     * <p>The elements on the shorter side of the range are shifted once, whatever the number of elements removed.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex index after the last element to be removed
+     * @throws IndexOutOfBoundsException range specified is out of bounds
+     * ({@code fromIndex < 0 || toIndex > size() || fromIndex > toIndex})
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IndexOutOfBoundsException();
+        int count = toIndex - fromIndex;
+        if (fromIndex < (size - toIndex)) {
+            moveRange(0, count, fromIndex);
+            clearRange(0, count);
+            head = calculateAdjustedIndex(count);
+        } else {
+            moveRange(toIndex, fromIndex, size - toIndex);
+            clearRange(size - count, count);
+        }
+        size -= count;
+        shrinkIfSparse();
+    }
+
     /**
      * Removes the first element in the list.
      *
@@ -321,6 +658,51 @@ public class ArrayList<E> implements List<E> {
         array[calculateAdjustedIndex(index)] = element;
     }
 
+    private void resize(int capacity) {
+        Object[] resizedArray = new Object[capacity];
+        copyTo(resizedArray);
+        head = 0;
+        array = resizedArray;
+        peakCapacity = Math.max(peakCapacity, capacity);
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object element = array[i];
+            array[i] = array[j];
+            array[j] = element;
+        }
+    }
+
+    /**
+     * Returns the index of the first element in the sorted list which is greater than the specified element.
+     *
+     * <p>Complexity: O(log(n)).
+     *
+     * @param element element to compare against
+     * @param comparator comparator the list is sorted by, or null if sorted by the natural ordering of the elements
+     * @return index of the first element greater than the specified element, or {@code size()} if there is none
+     */
+    public int upperBound(E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(array[calculateAdjustedIndex(middle)], element, comparator) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Only a shrinking growth policy ever releases capacity on removal.
+    private void shrinkIfSparse() {
+        int capacity = growthPolicy.shrink(array.length, size, initialCapacity());
+        if (capacity < array.length) resize(capacity);
+    }
+
     /**
      * Returns the size of the list.
      *
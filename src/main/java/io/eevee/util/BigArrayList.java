@@ -0,0 +1,245 @@
+package io.eevee.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Segmented array list indexed by {@code long}.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) at the end of the list
+ *   <li>Remove - O(1) at the end of the list
+ * </ul>
+ *
+ * <p>Elements are stored in fixed size segments of a power of two length, so an index splits into a segment number and
+ * an offset with a shift and a mask. Growing the list only allocates another segment, no element is ever copied and no
+ * single allocation exceeds a segment, which keeps large lists out of the humongous regions of region based collectors
+ * and lets the list hold more than {@code Integer.MAX_VALUE} elements. Only the small array of segment references is
+ * doubled as it fills.
+ *
+ * @see ArrayList
+ * @param <E> the type of the elements stored in this collection
+ */
+public class BigArrayList<E> implements Iterable<E> {
+    private Object[][] segments;
+    private int segmentCount;
+    private long size;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    private static final int DEFAULT_SEGMENT_SHIFT = 14;
+    private static final int MAXIMUM_SEGMENT_SHIFT = 30;
+    private static final int DEFAULT_SEGMENTS = 4;
+
+    BigArrayList() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    BigArrayList(int segmentShift) {
+        if (segmentShift < 0 || segmentShift > MAXIMUM_SEGMENT_SHIFT) throw new IllegalArgumentException();
+        this.segmentShift = segmentShift;
+        segmentMask = (1 << segmentShift) - 1;
+        clear();
+    }
+
+    /**
+     * Inserts the element at the end of the list, allocating a new segment if the last one is full.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be appended
+     */
+    public void add(E element) {
+        int segment = (int) (size >>> segmentShift);
+        if (segment == segmentCount) addSegment();
+        segments[segment][(int) size & segmentMask] = element;
+        size++;
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length) segments = Arrays.copyOf(segments, segments.length * 2);
+        segments[segmentCount++] = new Object[segmentMask + 1];
+    }
+
+    // Visible and strictly available for testing
+    long capacity() {
+        return (long) segmentCount << segmentShift;
+    }
+
+    /**
+     * Empties the list and releases every segment.
+     *
+     * <p>Complexity: O(1).
+     */
+    public void clear() {
+        segments = new Object[DEFAULT_SEGMENTS][];
+        segmentCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns true if the specified element is in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to search the list for
+     * @return true if the specified element is in the list
+     */
+    public boolean contains(E element) {
+        for (E position : this) {
+            if (position == null ? element == null : position.equals(element)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Performs the action for every element in the list in order, walking each segment as a plain array.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param action action to be performed for each element
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        long remaining = size;
+        for (int segment = 0; remaining > 0; segment++) {
+            Object[] array = segments[segment];
+            int length = (int) Math.min(remaining, array.length);
+            for (int i = 0; i < length; i++) {
+                action.accept((E) array[i]);
+            }
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of element to be retrieved
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    public E get(long index) {
+        if (index < 0 || size <= index) throw new IndexOutOfBoundsException();
+        return (E) segments[(int) (index >>> segmentShift)][(int) index & segmentMask];
+    }
+
+    /**
+     * Returns the first element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the first element in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public E getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return get(0);
+    }
+
+    /**
+     * Returns the last element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the last element in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public E getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return get(size - 1);
+    }
+
+    /**
+     * Returns iterator of the BigArrayList.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new BigArrayListIterator();
+    }
+
+    // Keeps a reference to the current segment so each step is a single array read.
+    private class BigArrayListIterator implements Iterator<E> {
+        private Object[] segment;
+        private int segmentNum;
+        private int offset;
+        private long elementNum;
+
+        BigArrayListIterator() {
+            segment = (segmentCount == 0) ? null : segments[0];
+            segmentNum = 0;
+            offset = 0;
+            elementNum = 0;
+        }
+
+        public E next() {
+            if (elementNum >= size) throw new NoSuchElementException();
+            if (offset == segment.length) {
+                segment = segments[++segmentNum];
+                offset = 0;
+            }
+            elementNum++;
+            return (E) segment[offset++];
+        }
+
+        public boolean hasNext() {
+            return elementNum < size;
+        }
+    }
+
+    /**
+     * Removes the last element in the list, the segment it occupied is kept for reuse.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        size--;
+        segments[(int) (size >>> segmentShift)][(int) size & segmentMask] = null;
+    }
+
+    /**
+     * Replaces the element at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of the element to be overwritten
+     * @param element element to be set
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    public void set(long index, E element) {
+        if (index < 0 || size <= index) throw new IndexOutOfBoundsException();
+        segments[(int) (index >>> segmentShift)][(int) index & segmentMask] = element;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Releases every segment which holds no elements.
+     *
+     * <p>Complexity: O(s) where s is the number of segments.
+     */
+    public void trimToSize() {
+        int usedSegments = (int) ((size + segmentMask) >>> segmentShift);
+        Arrays.fill(segments, usedSegments, segments.length, null);
+        segmentCount = usedSegments;
+    }
+}
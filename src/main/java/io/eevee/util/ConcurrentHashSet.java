@@ -0,0 +1,297 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Thread safe hash set implementation of the {@code Set} interface.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>The table is an array of buckets in the same manner as {@code HashSet}, however each bucket is an immutable
+ * chain of nodes which is republished in full on every change. Writers serialize on one of a fixed number of striped
+ * locks, selected by the hash of the element, while readers never lock; {@code contains} reads the current table and
+ * bucket and walks a chain which cannot change underneath it, making it wait-free. Resizing takes every stripe lock,
+ * builds a new table and publishes it, readers continue against the old table until the new one is visible.
+ *
+ * <p>Each stripe keeps its own count of elements. A writer only sums the counts when its own stripe holds more than
+ * its share of the load factor threshold, and the table is resized when the total exceeds the threshold, so skewed or
+ * colliding hashes piling into one stripe do not grow the table beyond the number of elements.
+ *
+ * <p>Iteration is weakly consistent, it reflects the state of the set at some point at or after the creation of the
+ * iterator and never throws {@code ConcurrentModificationException}.
+ *
+ * @see Set
+ * @see HashSet
+ * @param <E> the type of the elements stored in this collection
+ */
+public class ConcurrentHashSet<E> implements Set<E> {
+    private volatile AtomicReferenceArray<Node<E>> table;
+    private final ReentrantLock[] locks;
+    private final AtomicIntegerArray counts;
+
+    // Both are powers of two and the table is never smaller than the number of stripes, so every bucket is guarded by
+    // exactly one lock for the lifetime of the set.
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    ConcurrentHashSet() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    ConcurrentHashSet(int concurrencyLevel) {
+        if (concurrencyLevel < 1) throw new IllegalArgumentException();
+        int stripes = Integer.highestOneBit(Math.min(concurrencyLevel, DEFAULT_CAPACITY) * 2 - 1);
+        locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        counts = new AtomicIntegerArray(stripes);
+        table = new AtomicReferenceArray<>(DEFAULT_CAPACITY);
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return table.length();
+    }
+
+    /**
+     * Inserts the element into the set.
+     *
+     * <p>Complexity: O(1) - (Amortized)
+     *
+     * @param element element to be inserted
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public void add(E element) {
+        requireNonNull(element);
+        int hash = Hashing.spread(element.hashCode());
+        int stripe = Hashing.indexFor(hash, locks.length);
+        boolean resize;
+        locks[stripe].lock();
+        try {
+            AtomicReferenceArray<Node<E>> tab = table;
+            int index = Hashing.indexFor(hash, tab.length());
+            Node<E> bucket = tab.get(index);
+            if (find(bucket, hash, element) != null) return;
+            tab.set(index, new Node<E>(element, hash, bucket));
+            int count = counts.get(stripe) + 1;
+            counts.set(stripe, count);
+            // Some stripe must exceed its share whenever the total exceeds the threshold
+            resize = count > threshold(tab.length()) / locks.length && size() > threshold(tab.length());
+        } finally {
+            locks[stripe].unlock();
+        }
+        if (resize) resize();
+    }
+
+    /**
+     * Empties the set.
+     *
+     * <p>Complexity: O(n).
+     */
+    @Override
+    public void clear() {
+        lockAll();
+        try {
+            table = new AtomicReferenceArray<>(DEFAULT_CAPACITY);
+            for (int i = 0; i < locks.length; i++) {
+                counts.set(i, 0);
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns true if the specified element is in the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to search the set for
+     * @return true if the specified element is in the set
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(E element) {
+        requireNonNull(element);
+        int hash = Hashing.spread(element.hashCode());
+        AtomicReferenceArray<Node<E>> tab = table;
+        return find(tab.get(Hashing.indexFor(hash, tab.length())), hash, element) != null;
+    }
+
+    private Node<E> find(Node<E> node, int hash, E element) {
+        while (node != null) {
+            if (node.hash == hash && element.equals(node.element)) return node;
+            node = node.next;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a weakly consistent iterator of the set.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentHashSetIterator();
+    }
+
+    private class ConcurrentHashSetIterator implements Iterator<E> {
+        private final AtomicReferenceArray<Node<E>> tab;
+        private int index;
+        private Node<E> node;
+
+        ConcurrentHashSetIterator() {
+            tab = table;
+            index = 0;
+            node = null;
+            advance();
+        }
+
+        private void advance() {
+            while (node == null && index < tab.length()) {
+                node = tab.get(index++);
+            }
+        }
+
+        public E next() {
+            if (node == null) throw new NoSuchElementException();
+            E element = node.element;
+            node = node.next;
+            advance();
+            return element;
+        }
+
+        public boolean hasNext() {
+            return node != null;
+        }
+    }
+
+    /**
+     * Removes the element from the set if it exists.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be removed
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public void remove(E element) {
+        requireNonNull(element);
+        int hash = Hashing.spread(element.hashCode());
+        int stripe = Hashing.indexFor(hash, locks.length);
+        locks[stripe].lock();
+        try {
+            AtomicReferenceArray<Node<E>> tab = table;
+            int index = Hashing.indexFor(hash, tab.length());
+            Node<E> bucket = tab.get(index);
+            Node<E> target = find(bucket, hash, element);
+            if (target == null) return;
+            tab.set(index, unlink(bucket, target));
+            counts.set(stripe, counts.get(stripe) - 1);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    // Nodes are immutable so the prefix of the chain ahead of the target is copied and the suffix shared. The copy is
+    // built from the back of the prefix, iteratively, as a chain of colliding elements may be arbitrarily long.
+    private Node<E> unlink(Node<E> bucket, Node<E> target) {
+        int prefixLength = 0;
+        for (Node<E> node = bucket; node != target; node = node.next) {
+            prefixLength++;
+        }
+        Node<E>[] prefix = (Node<E>[]) new Node[prefixLength];
+        Node<E> node = bucket;
+        for (int i = 0; i < prefixLength; i++) {
+            prefix[i] = node;
+            node = node.next;
+        }
+        Node<E> chain = target.next;
+        for (int i = prefixLength - 1; i >= 0; i--) {
+            chain = new Node<E>(prefix[i].element, prefix[i].hash, chain);
+        }
+        return chain;
+    }
+
+    private void resize() {
+        lockAll();
+        try {
+            AtomicReferenceArray<Node<E>> oldTable = table;
+            int oldCapacity = oldTable.length();
+            // Another writer may have resized while this one was waiting for the locks
+            if (oldCapacity >= Hashing.MAXIMUM_CAPACITY || size() <= threshold(oldCapacity)) return;
+
+            AtomicReferenceArray<Node<E>> newTable = new AtomicReferenceArray<>(oldCapacity * 2);
+            for (int i = 0; i < oldCapacity; i++) {
+                for (Node<E> node = oldTable.get(i); node != null; node = node.next) {
+                    int index = Hashing.indexFor(node.hash, newTable.length());
+                    newTable.set(index, new Node<E>(node.element, node.hash, newTable.get(index)));
+                }
+            }
+            table = newTable;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // Total number of elements the table holds before resizing, a 0.75 load factor.
+    private static int threshold(int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the set.
+     *
+     * <p>The result is only exact in the absence of concurrent updates.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the set
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < locks.length; i++) {
+            size += counts.get(i);
+        }
+        return size;
+    }
+
+    private static class Node<E> {
+        final E element;
+        final int hash;
+        final Node<E> next;
+
+        Node(E element, int hash, Node<E> next) {
+            this.element = element;
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+
+/**
+ * Lock free, unbounded, multi-producer multi-consumer queue of linked nodes.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>The queue is the Michael and Scott algorithm. The head always points at a dummy node whose successor holds the
+ * first element, and the tail points at the last node or, briefly, the one before it. A producer links its node after
+ * the last node with a compare and set of that node's next link and then swings the tail forward, a consumer takes the
+ * element of the head's successor and swings the head onto it, which becomes the new dummy. A thread finding the tail
+ * lagging behind the last node swings it forward itself before retrying, so no thread ever waits on another and a
+ * thread stalled midway through an operation never blocks the rest. A removed node is linked to itself so that it
+ * does not keep the nodes after it reachable.
+ *
+ * <p>Iterators are weakly consistent: they never throw on concurrent changes, return every element present for the
+ * whole of the iteration exactly once in queue order, and may or may not return elements added or removed while
+ * iterating. {@code size} walks the queue and is only a snapshot.
+ *
+ * @see LinkedList
+ * @see MpmcArrayQueue
+ * @param <E> the type of the elements stored in this queue
+ */
+public class ConcurrentLinkedQueue<E> implements Iterable<E> {
+    private volatile Node<E> head;
+    private volatile Node<E> tail;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle ITEM;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    ConcurrentLinkedQueue() {
+        Node<E> dummy = new Node<>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Removes up to the limit of elements from the head of the queue, passing each to the consumer in order.
+     *
+     * <p>Complexity: O(k) where k is the number of elements drained.
+     *
+     * @param consumer consumer of the drained elements
+     * @param limit maximum number of elements to be drained
+     * @return number of elements drained
+     * @throws NullPointerException if the specified consumer is null
+     */
+    public int drainTo(Consumer<? super E> consumer, int limit) {
+        requireNonNull(consumer);
+        int drained = 0;
+        while (drained < limit) {
+            E element = poll();
+            if (element == null) break;
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns true if the queue held no elements at the moment it was checked.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements of the queue, from head to tail.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentLinkedQueueIterator();
+    }
+
+    private class ConcurrentLinkedQueueIterator implements Iterator<E> {
+        private Node<E> nextNode;
+        // Held so that hasNext and next agree even if the element is polled in between
+        private E nextItem;
+
+        ConcurrentLinkedQueueIterator() {
+            advance(head);
+        }
+
+        // Moves to the first node after the specified node still holding an element, restarting from the head if the
+        // walk reaches a node which has been removed, as every node from the head on comes later in the queue.
+        private void advance(Node<E> node) {
+            while (true) {
+                Node<E> next = node.next;
+                if (next == null) {
+                    nextNode = null;
+                    nextItem = null;
+                    return;
+                } else if (next == node) {
+                    node = head;
+                } else {
+                    E item = next.item;
+                    if (item != null) {
+                        nextNode = next;
+                        nextItem = item;
+                        return;
+                    }
+                    node = next;
+                }
+            }
+        }
+
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        public E next() {
+            if (nextNode == null) throw new NoSuchElementException();
+            E item = nextItem;
+            advance(nextNode);
+            return item;
+        }
+    }
+
+    /**
+     * Inserts the element at the tail of the queue, which never fails as the queue is unbounded.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be inserted
+     * @return true
+     * @throws NullPointerException if the specified element is null
+     */
+    public boolean offer(E element) {
+        Node<E> node = new Node<>(requireNonNull(element));
+        while (true) {
+            Node<E> last = tail;
+            Node<E> next = last.next;
+            if (last != tail) continue;
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, node)) {
+                    // Failing only means another thread has already swung the tail forward
+                    TAIL.compareAndSet(this, last, node);
+                    return true;
+                }
+            } else {
+                // The tail is lagging behind the last node, help it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the head of the queue without removing it.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the head of the queue, or null if the queue is empty
+     */
+    public E peek() {
+        while (true) {
+            Node<E> first = head;
+            Node<E> next = first.next;
+            if (next == null) return null;
+            // A cleared element means the node has since become the dummy, so the head has moved
+            E item = next.item;
+            if (item != null) return item;
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head of the queue.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the head of the queue, or null if the queue is empty
+     */
+    public E poll() {
+        while (true) {
+            Node<E> first = head;
+            Node<E> last = tail;
+            Node<E> next = first.next;
+            if (first != head) continue;
+            if (first == last) {
+                if (next == null) return null;
+                // The tail is lagging behind the last node, help it forward before the head can pass it
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                // Read before the compare and set, once the head moves the node is the dummy and may be cleared
+                E item = next.item;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    ITEM.setRelease(next, null);
+                    NEXT.setRelease(first, first);
+                    return item;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the queue, which may be stale as soon as it is returned.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return size of the queue
+     */
+    public int size() {
+        int count = 0;
+        for (Iterator<E> iterator = iterator(); iterator.hasNext() && count < Integer.MAX_VALUE; iterator.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static class Node<E> {
+        volatile E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
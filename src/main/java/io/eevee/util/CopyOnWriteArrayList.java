@@ -0,0 +1,280 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+
+/**
+ * Thread safe array list implementation of the {@code List} interface for read mostly access.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(n)
+ *   <li>Remove - O(n)
+ * </ul>
+ *
+ * <p>The elements are held in an array which is never modified once published. Readers take no lock, every read is a
+ * single volatile read of the current array followed by plain reads of an array which cannot change underneath it, so
+ * reads scale with the number of readers. Writers serialize on a lock, copy the array, apply their change and publish
+ * the copy. A batch of changes made through {@code edit} is applied to an {@code ArrayList} holding a single copy of the
+ * elements and published once, so readers never see part of a batch.
+ *
+ * <p>Iteration is over the array current when the iterator was created and never throws
+ * {@code ConcurrentModificationException}.
+ *
+ * @see List
+ * @see ArrayList
+ * @param <E> the type of the elements stored in this collection
+ */
+public class CopyOnWriteArrayList<E> implements List<E> {
+    private volatile Object[] array;
+    private final ReentrantLock lock;
+
+    CopyOnWriteArrayList() {
+        array = new Object[0];
+        lock = new ReentrantLock();
+    }
+
+    /**
+     * Inserts the element at the specific index.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()})
+     */
+    @Override
+    public void add(int index, E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index > current.length) throw new IndexOutOfBoundsException();
+            Object[] copy = new Object[current.length + 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index, copy, index + 1, current.length - index);
+            copy[index] = element;
+            array = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the element at the end of the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to be appended
+     */
+    @Override
+    public void add(E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            Object[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = element;
+            array = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Empties the list.
+     *
+     * <p>Complexity: O(1).
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            array = new Object[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if the specified element is in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to search the list for
+     * @return true if the specified element is in the list
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(array, element) >= 0;
+    }
+
+    /**
+     * Applies a batch of changes to a private copy of the list and publishes the result, readers see either none or
+     * all of the changes.
+     *
+     * <p>Complexity: O(n + k) where k is the cost of the changes.
+     *
+     * @param edits changes to be applied to the copy of the list
+     * @throws NullPointerException if the specified edits are null
+     */
+    public void edit(Consumer<? super ArrayList<E>> edits) {
+        requireNonNull(edits);
+        lock.lock();
+        try {
+            ArrayList<E> copy = new ArrayList<>(array);
+            edits.accept(copy);
+            array = copy.toArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of element to be retrieved
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        Object[] current = array;
+        if (index < 0 || current.length <= index) throw new IndexOutOfBoundsException();
+        return (E) current[index];
+    }
+
+    private static int indexOf(Object[] elements, Object element) {
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] == null ? element == null : elements[i].equals(element)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns iterator over a snapshot of the CopyOnWriteArrayList.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new CopyOnWriteArrayListIterator<>(array);
+    }
+
+    private static class CopyOnWriteArrayListIterator<E> implements Iterator<E> {
+        private final Object[] snapshot;
+        private int index;
+
+        CopyOnWriteArrayListIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+            index = 0;
+        }
+
+        public E next() {
+            if (index >= snapshot.length) throw new NoSuchElementException();
+            return (E) snapshot[index++];
+        }
+
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index of the element to be removed
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public void remove(int index) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index >= current.length) throw new IndexOutOfBoundsException();
+            removeAt(current, index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the element from the list if it exists.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to be removed
+     */
+    @Override
+    public void remove(E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            int index = indexOf(current, element);
+            if (index >= 0) removeAt(current, index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeAt(Object[] current, int index) {
+        Object[] copy = new Object[current.length - 1];
+        System.arraycopy(current, 0, copy, 0, index);
+        System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+        array = copy;
+    }
+
+    /**
+     * Replaces the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index of the element to be overwritten
+     * @param element element to be set
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public void set(int index, E element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index >= current.length) throw new IndexOutOfBoundsException();
+            Object[] copy = current.clone();
+            copy[index] = element;
+            array = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Returns a new array holding the elements of the list in order.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return array of the elements in the list
+     */
+    public Object[] toArray() {
+        return array.clone();
+    }
+}
@@ -0,0 +1,100 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Count-Min Sketch implementation estimating how often elements have been seen.
+ *
+ * <p>This is a probabilistic data structure which never underestimates the frequency of an element and overestimates
+ * it only when every one of its counters is shared with more frequent elements. Each element maps to one 4 bit counter
+ * in each of four rows, selected by {@code Murmur} hashes of its hash code with a different seed per row, and its
+ * frequency is the smallest of those counters.
+ *
+ * <p>Counters saturate at 15. Once the number of increments reaches ten times the expected number of distinct elements
+ * every counter is halved, so the sketch favours recent frequency and stale elements age out.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(1)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1)
+ *   <li>Remove - NA
+ * </ul>
+ *
+ * @param <E> the type of the elements counted by this sketch
+ */
+public class CountMinSketch<E> {
+    private final long[] table;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int MIN_WIDTH = 16;
+
+    // Clears the bit which would otherwise shift into the top of the neighbouring counter on halving
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    CountMinSketch(int expectedElements) {
+        if (expectedElements < 1) throw new IllegalArgumentException();
+        width = Hashing.tableSizeFor(Math.max(expectedElements, MIN_WIDTH));
+        // 16 counters of 4 bits are packed into each long
+        table = new long[(DEPTH * width) >>> 4];
+        sampleSize = (int) Math.min(10L * expectedElements, Integer.MAX_VALUE);
+        additions = 0;
+    }
+
+    /**
+     * Returns the estimated number of times the element has been seen.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be estimated
+     * @return estimated frequency of the element, between 0 and 15
+     * @throws NullPointerException if the specified element is null
+     */
+    public int frequency(E element) {
+        requireNonNull(element);
+        int hashCode = element.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            int slot = slotFor(hashCode, row);
+            frequency = Math.min(frequency, (int) ((table[slot >>> 4] >>> ((slot & 15) << 2)) & MAX_COUNT));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the element, halving every counter once the sample size is reached.
+     *
+     * <p>Complexity: O(1) - (Amortized)
+     *
+     * @param element element to be counted
+     * @throws NullPointerException if the specified element is null
+     */
+    public void increment(E element) {
+        requireNonNull(element);
+        int hashCode = element.hashCode();
+        for (int row = 0; row < DEPTH; row++) {
+            int slot = slotFor(hashCode, row);
+            int shift = (slot & 15) << 2;
+            if (((table[slot >>> 4] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                table[slot >>> 4] += 1L << shift;
+            }
+        }
+        if (++additions >= sampleSize) reset();
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int slotFor(int hashCode, int row) {
+        return row * width + Hashing.indexFor(Murmur.hash(hashCode, (row + 1) * Murmur.DEFAULT_SEED), width);
+    }
+}
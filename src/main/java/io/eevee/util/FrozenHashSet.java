@@ -0,0 +1,144 @@
+package io.eevee.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Immutable hash set implementation of the {@code Set} interface.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - NA
+ *   <li>Remove - NA
+ * </ul>
+ *
+ * <p>Created by {@code HashSet.freeze}, the elements are stored directly in a single open addressing table with linear
+ * probing, the smallest power of two which keeps the table at most three quarters full. There are no bucket lists or
+ * nodes, so a lookup reads a run of adjacent slots of one array. Every field is final and the table is never written
+ * after construction, so a frozen set can be shared between threads without synchronization. Every method which would
+ * modify the set throws {@code UnsupportedOperationException}.
+ *
+ * @see HashSet
+ * @param <E> the type of the elements stored in this collection
+ */
+public final class FrozenHashSet<E> implements Set<E> {
+    private final Object[] table;
+    private final int size;
+
+    // The elements must be distinct and not null.
+    FrozenHashSet(Object[] elements) {
+        int capacity = Hashing.tableSizeFor(Math.max(2, elements.length + (elements.length + 2) / 3));
+        table = new Object[capacity];
+        for (Object element : elements) {
+            int index = slotFor(element);
+            while (table[index] != null) {
+                index = Hashing.indexFor(index + 1, capacity);
+            }
+            table[index] = element;
+        }
+        size = elements.length;
+    }
+
+    /**
+     * Unsupported, the set is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Unsupported, the set is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if the specified element is in the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to search the set for
+     * @return true if the specified element is in the set
+     */
+    @Override
+    public boolean contains(E element) {
+        int index = slotFor(element);
+        while (table[index] != null) {
+            if (table[index].equals(element)) return true;
+            index = Hashing.indexFor(index + 1, table.length);
+        }
+        return false;
+    }
+
+    /**
+     * Returns iterator of the set.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new FrozenHashSetIterator();
+    }
+
+    private class FrozenHashSetIterator implements Iterator<E> {
+        private int elementNum;
+        private int index;
+
+        FrozenHashSetIterator() {
+            elementNum = 0;
+            index = 0;
+        }
+
+        public E next() {
+            if (elementNum >= size) throw new NoSuchElementException();
+            while (table[index] == null) {
+                index++;
+            }
+            elementNum++;
+            return (E) table[index++];
+        }
+
+        public boolean hasNext() {
+            return elementNum < size;
+        }
+    }
+
+    /**
+     * Unsupported, the set is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the size of the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the set
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int slotFor(Object element) {
+        return Hashing.indexFor(Hashing.spread(element.hashCode()), table.length);
+    }
+}
@@ -0,0 +1,172 @@
+package io.eevee.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Immutable array list implementation of the {@code List} interface.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - NA
+ *   <li>Remove - NA
+ * </ul>
+ *
+ * <p>Created by {@code ArrayList.freeze}, the elements are held in an array of exactly their number, starting at
+ * index zero, so there is no unused capacity and no head offset to adjust every access by. Every field is final and
+ * the array is never written after construction, so a frozen list can be shared between threads without
+ * synchronization. Every method which would modify the list throws {@code UnsupportedOperationException}.
+ *
+ * @see ArrayList
+ * @param <E> the type of the elements stored in this collection
+ */
+public final class FrozenList<E> implements List<E> {
+    private final Object[] array;
+
+    // Takes ownership of the array, which must not be modified afterwards.
+    FrozenList(Object[] array) {
+        this.array = array;
+    }
+
+    /**
+     * Unsupported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Unsupported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Unsupported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if the specified element is in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to search the list for
+     * @return true if the specified element is in the list
+     */
+    @Override
+    public boolean contains(E element) {
+        for (Object position : array) {
+            if (element.equals(position)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of element to be retrieved
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= array.length) throw new IndexOutOfBoundsException();
+        return (E) array[index];
+    }
+
+    /**
+     * Returns iterator of the FrozenList.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new FrozenListIterator();
+    }
+
+    private class FrozenListIterator implements Iterator<E> {
+        private int index;
+
+        FrozenListIterator() {
+            index = 0;
+        }
+
+        public E next() {
+            if (index >= array.length) throw new NoSuchElementException();
+            return (E) array[index++];
+        }
+
+        public boolean hasNext() {
+            return index < array.length;
+        }
+    }
+
+    /**
+     * Unsupported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Unsupported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Unsupported, the list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void set(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Returns a new array holding the elements of the list in order.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return array of the elements in the list
+     */
+    public Object[] toArray() {
+        return array.clone();
+    }
+}
@@ -0,0 +1,185 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Immutable sorted array implementation of the {@code SortedSet} interface.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(log(n))
+ *   <li>Insert - NA
+ *   <li>Remove - NA
+ * </ul>
+ *
+ * <p>Created by {@code LinkedBinaryTree.freeze}, the elements are held in their natural order in an array of exactly
+ * their number and found by binary search, so there are no nodes, the elements are reached by index in O(1) and a
+ * search touches far fewer cache lines than walking the tree. Every field is final and the array is never written
+ * after construction, so a frozen set can be shared between threads without synchronization. Every method which would
+ * modify the set throws {@code UnsupportedOperationException}.
+ *
+ * @see LinkedBinaryTree
+ * @param <E> the type of the elements stored in this collection
+ */
+public final class FrozenSortedSet<E extends Comparable<E>> implements SortedSet<E> {
+    private final Object[] array;
+
+    // Takes ownership of the array, which must hold distinct elements in their natural order and not be modified
+    // afterwards.
+    FrozenSortedSet(Object[] array) {
+        this.array = array;
+    }
+
+    /**
+     * Unsupported, the set is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Unsupported, the set is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if the specified element is in the set.
+     *
+     * <p>Complexity: O(log(n)).
+     *
+     * @param element element to search the set for
+     * @return true if the specified element is in the set
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns the element at the specified position in the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of element to be retrieved
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    public E get(int index) {
+        if (index < 0 || index >= array.length) throw new IndexOutOfBoundsException();
+        return (E) array[index];
+    }
+
+    /**
+     * Returns the element at the beginning of the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the beginning of the set
+     * @throws NoSuchElementException if the method is called on an empty set
+     */
+    public E getFirst() {
+        if (array.length == 0) throw new NoSuchElementException();
+        return (E) array[0];
+    }
+
+    /**
+     * Returns the element at the end of the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the end of the set
+     * @throws NoSuchElementException if the method is called on an empty set
+     */
+    public E getLast() {
+        if (array.length == 0) throw new NoSuchElementException();
+        return (E) array[array.length - 1];
+    }
+
+    /**
+     * Returns the index of the element in the set.
+     *
+     * <p>Complexity: O(log(n)).
+     *
+     * @param element element to search the set for
+     * @return index of the element if it is in the set, otherwise {@code (-(insertion point) - 1)}
+     * @throws NullPointerException if the specified element is null
+     */
+    public int indexOf(E element) {
+        requireNonNull(element);
+        int low = 0;
+        int high = array.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = ((E) array[middle]).compareTo(element);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns iterator of the set, in the natural order of the elements.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new FrozenSortedSetIterator();
+    }
+
+    private class FrozenSortedSetIterator implements Iterator<E> {
+        private int index;
+
+        FrozenSortedSetIterator() {
+            index = 0;
+        }
+
+        public E next() {
+            if (index >= array.length) throw new NoSuchElementException();
+            return (E) array[index++];
+        }
+
+        public boolean hasNext() {
+            return index < array.length;
+        }
+    }
+
+    /**
+     * Unsupported, the set is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the size of the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the set
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+}
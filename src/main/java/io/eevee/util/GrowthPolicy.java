@@ -0,0 +1,105 @@
+package io.eevee.util;
+
+/**
+ * Policy deciding how an {@code ArrayList} grows when full and whether it shrinks as elements are removed.
+ *
+ * <p>A list grows either by multiplying its capacity by a factor or by adding a fixed step, never beyond the maximum
+ * capacity. A shrinking list halves its capacity once it falls to a quarter full, as many times over as a bulk removal
+ * requires, so a burst of additions does not hold on to its peak capacity forever, and as a list only grows when full
+ * and is at least half full after shrinking a list hovering around either threshold never resizes on every change.
+ *
+ * <p>Growing by a fixed step keeps the unused capacity of a large list bounded by the step, at the cost of adding
+ * elements no longer being amortized constant time.
+ *
+ * <p>Policies are immutable, the {@code with} methods return a new policy.
+ *
+ * @see ArrayList
+ */
+public final class GrowthPolicy {
+    private final double factor;
+    private final int step;
+    private final int maximumCapacity;
+    private final boolean shrinking;
+
+    // Some virtual machines reserve header words in an array, so the largest arrays may fail to allocate
+    private static final int MAXIMUM_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Doubles the capacity of a full list and never shrinks it.
+     */
+    public static final GrowthPolicy DEFAULT = new GrowthPolicy(2.0, 0, MAXIMUM_ARRAY_LENGTH, false);
+
+    private GrowthPolicy(double factor, int step, int maximumCapacity, boolean shrinking) {
+        this.factor = factor;
+        this.step = step;
+        this.maximumCapacity = maximumCapacity;
+        this.shrinking = shrinking;
+    }
+
+    /**
+     * Returns a policy multiplying the capacity of a full list by the factor.
+     *
+     * @param factor factor the capacity is multiplied by
+     * @return policy growing by the factor
+     * @throws IllegalArgumentException if the factor is not greater than one
+     */
+    public static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0)) throw new IllegalArgumentException();
+        return new GrowthPolicy(factor, 0, MAXIMUM_ARRAY_LENGTH, false);
+    }
+
+    /**
+     * Returns a policy adding a fixed number of slots to the capacity of a full list.
+     *
+     * @param step number of slots added
+     * @return policy growing by the step
+     * @throws IllegalArgumentException if the step is not positive
+     */
+    public static GrowthPolicy step(int step) {
+        if (step < 1) throw new IllegalArgumentException();
+        return new GrowthPolicy(0.0, step, MAXIMUM_ARRAY_LENGTH, false);
+    }
+
+    /**
+     * Returns a copy of this policy which never grows a list beyond the maximum capacity.
+     *
+     * @param maximumCapacity largest capacity a list may grow to
+     * @return policy capped at the maximum capacity
+     * @throws IllegalArgumentException if the maximum capacity is not positive
+     */
+    public GrowthPolicy withMaximumCapacity(int maximumCapacity) {
+        if (maximumCapacity < 1) throw new IllegalArgumentException();
+        return new GrowthPolicy(factor, step, Math.min(maximumCapacity, MAXIMUM_ARRAY_LENGTH), shrinking);
+    }
+
+    /**
+     * Returns a copy of this policy which halves the capacity of a list once it falls to a quarter full.
+     *
+     * @return shrinking policy
+     */
+    public GrowthPolicy withShrinking() {
+        return new GrowthPolicy(factor, step, maximumCapacity, true);
+    }
+
+    // Returns the capacity a list should grow to from its current capacity to hold at least the minimum capacity.
+    int grow(int capacity, int minCapacity) {
+        if (minCapacity > maximumCapacity) throw new IllegalStateException("List would exceed its maximum capacity");
+        long grown = (step > 0) ? (long) capacity + step : (long) (capacity * factor);
+        return (int) Math.min(Math.max(grown, minCapacity), maximumCapacity);
+    }
+
+    int maximumCapacity() {
+        return maximumCapacity;
+    }
+
+    // Returns the capacity a list should shrink to, halving until it is no longer a quarter full, or its current
+    // capacity if it should not shrink.
+    int shrink(int capacity, int size, int minCapacity) {
+        if (!shrinking) return capacity;
+        int shrunk = capacity;
+        while (shrunk > minCapacity && size <= (shrunk >>> 2)) {
+            shrunk >>>= 1;
+        }
+        return Math.max(shrunk, Math.min(minCapacity, capacity));
+    }
+}
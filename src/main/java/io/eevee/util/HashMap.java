@@ -0,0 +1,235 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+
+/**
+ * Open addressing hash map implementation.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>Keys and values are held in parallel arrays and collisions are resolved by linear probing, so no entry objects
+ * are allocated by any operation other than a resize. Removal shifts the remainder of the probe run backwards rather
+ * than leaving tombstones, keeping lookups short after heavy churn. Keys are hashed the same way as {@code HashSet}.
+ *
+ * @see HashSet
+ * @param <K> the type of the keys stored in this map
+ * @param <V> the type of the values stored in this map
+ */
+public class HashMap<K, V> {
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    HashMap() {
+        keys = new Object[DEFAULT_CAPACITY];
+        values = new Object[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    HashMap(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException();
+        int capacity = Hashing.tableSizeFor(Math.max(DEFAULT_CAPACITY, expectedSize + (expectedSize / 3) + 1));
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        size = 0;
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Empties the map.
+     *
+     * <p>Complexity: O(1).
+     */
+    public void clear() {
+        keys = new Object[DEFAULT_CAPACITY];
+        values = new Object[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * If the key is not already mapped, computes its value with the specified function and stores it unless it is
+     * null.
+     *
+     * <p>Complexity: O(1) - (Amortized)
+     *
+     * @param key key whose value is to be returned or computed
+     * @param mappingFunction function used to compute the value of an absent key
+     * @return the current, possibly just computed, value of the key or null if there is none
+     * @throws NullPointerException if the specified key or function is null
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        requireNonNull(key);
+        requireNonNull(mappingFunction);
+        int index = indexOf(key);
+        if (keys[index] != null) return (V) values[index];
+
+        V value = mappingFunction.apply(key);
+        if (value == null) return null;
+        // The function may have modified the map so the slot has to be located again
+        insert(key, value);
+        return value;
+    }
+
+    /**
+     * Returns true if the specified key is in the map.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key to search the map for
+     * @return true if the specified key is in the map
+     * @throws NullPointerException if the specified key is null
+     */
+    public boolean containsKey(K key) {
+        requireNonNull(key);
+        return keys[indexOf(key)] != null;
+    }
+
+    /**
+     * Performs the action for every key and value in the map.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param action action to be performed for each mapping
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) action.accept((K) keys[i], (V) values[i]);
+        }
+    }
+
+    /**
+     * Returns the value of the specified key or null if the key is not in the map.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key whose value is to be returned
+     * @return the value of the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        return (V) values[indexOf(key)];
+    }
+
+    private void grow() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new Object[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = slotFor(oldKeys[i]);
+                while (keys[index] != null) {
+                    index = Hashing.indexFor(index + 1, keys.length);
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    // Returns the slot holding the key, or the empty slot which ends its probe run if the key is not in the map.
+    private int indexOf(Object key) {
+        int index = slotFor(key);
+        while (keys[index] != null && !key.equals(keys[index])) {
+            index = Hashing.indexFor(index + 1, keys.length);
+        }
+        return index;
+    }
+
+    private void insert(K key, V value) {
+        if (size >= keys.length - (keys.length >>> 2)) grow();
+        int index = indexOf(key);
+        if (keys[index] == null) {
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Associates the value with the specified key, replacing any previous value.
+     *
+     * <p>Complexity: O(1) - (Amortized)
+     *
+     * @param key key with which the value is to be associated
+     * @param value value to be associated with the key
+     * @return the previous value of the key or null if there was none
+     * @throws NullPointerException if the specified key is null
+     */
+    public V put(K key, V value) {
+        requireNonNull(key);
+        int index = indexOf(key);
+        if (keys[index] != null) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        insert(key, value);
+        return null;
+    }
+
+    /**
+     * Removes the key and its value from the map if it exists.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key to be removed
+     * @return the value of the removed key or null if there was none
+     * @throws NullPointerException if the specified key is null
+     */
+    public V remove(K key) {
+        requireNonNull(key);
+        int gap = indexOf(key);
+        if (keys[gap] == null) return null;
+        V previous = (V) values[gap];
+
+        // Pulls back every later key in the probe run which would otherwise be unreachable past the gap.
+        int index = Hashing.indexFor(gap + 1, keys.length);
+        while (keys[index] != null) {
+            int distanceFromSlot = Hashing.indexFor(index - slotFor(keys[index]), keys.length);
+            int distanceFromGap = Hashing.indexFor(index - gap, keys.length);
+            if (distanceFromSlot >= distanceFromGap) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = Hashing.indexFor(index + 1, keys.length);
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slotFor(Object key) {
+        return Hashing.indexFor(Hashing.spread(key.hashCode()), keys.length);
+    }
+}
@@ -1,7 +1,14 @@
 package io.eevee.util;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 
 
 /**
@@ -10,11 +17,19 @@ import java.util.NoSuchElementException;
  * <p>Complexity:
  * <ul>
  *   <li>Space - O(n)
- *   <li>Access - O(log(n))
- *   <li>Insert - O(1)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized)
  *   <li>Remove - O(1)
  * </ul>
  *
+ * <p>Each bucket starts as a {@code LinkedList}. Once a bucket holds more than {@code TREEIFY_THRESHOLD} elements
+ * which are all of the same class, that class is {@code Comparable} to itself and no two of the elements compare as
+ * equal, it is converted to a balanced {@code LinkedBinaryTree}, so heavily colliding elements are found in O(log(n))
+ * rather than O(n). Elements found in a tree are confirmed with {@code equals}, and adding an element which cannot be
+ * ordered against the tree's elements, being of another class or comparing as equal to an element it is not equal to,
+ * converts the bucket back to a list. The set therefore never depends on a natural ordering consistent with
+ * {@code equals}.
+ *
  * @see Collection
  * @see Iterable
  * @param <E> the type of the elements stored in this collection
@@ -23,7 +38,17 @@ public class HashSet<E> implements Collection<E> {
     private Object[] array;
     private int size;
 
-    private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Buckets are converted to trees above the first threshold and back to lists at or below the second, the gap
+    // stops a bucket flipping between the two on alternating adds and removes.
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    // Bulk operations over fewer elements than this run on the calling thread, larger ones split the bucket range into
+    // chunks of at least MIN_CHUNK_BUCKETS buckets which are processed on the common ForkJoinPool.
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final int MIN_CHUNK_BUCKETS = 1 << 10;
 
     HashSet() {
         array = new Object[DEFAULT_CAPACITY];
@@ -39,18 +64,328 @@ public class HashSet<E> implements Collection<E> {
      */
     @Override
     public void add(E element) {
-        int hash = element.hashCode() % array.length;
+        int hash = indexFor(element);
         if (array[hash] == null) {
             array[hash] = new LinkedList<E>();
-            ((List<E>) array[hash]).add(element);
+            ((Collection<E>) array[hash]).add(element);
         } else {
-            if (!((List<E>) array[hash]).contains(element)) {
-                ((List<E>) array[hash]).add(element);
+            if (!contains(element)) {
+                if (array[hash] instanceof LinkedBinaryTree && !isOrderable((LinkedBinaryTree) array[hash], element)) {
+                    array[hash] = toList((LinkedBinaryTree) array[hash]);
+                }
+                ((Collection<E>) array[hash]).add(element);
+                if (isTreeifyAttempt(((Collection<E>) array[hash]).size())) treeifyIfRequired(array, hash);
             } else {
                 return;
             }
         }
         size++;
+        if (size > array.length - (array.length >>> 2)) grow();
+    }
+
+    // Visible and strictly available for testing
+    boolean isTreeified(E element) {
+        return array[indexFor(element)] instanceof LinkedBinaryTree;
+    }
+
+    // A list bucket is offered for treeification when it first passes the threshold and again each time it doubles in
+    // length, rather than on every add, so a chain of elements which cannot be treeified costs O(log(k)) amortized
+    // per add instead of a sort of the chain on every add. Buckets rebuilt by a resize or bulk removal are always
+    // offered.
+    private static boolean isTreeifyAttempt(int length) {
+        int multiple = length / (TREEIFY_THRESHOLD + 1);
+        return length % (TREEIFY_THRESHOLD + 1) == 0 && (multiple & (multiple - 1)) == 0;
+    }
+
+    // Returns true if the element, known not to be in the tree, can be ordered against the tree's elements without
+    // comparing as equal to any of them.
+    private boolean isOrderable(LinkedBinaryTree tree, E element) {
+        return element.getClass() == tree.getFirst().getClass() && tree.find((Comparable) element) == null;
+    }
+
+    // Returns true if the class implements Comparable of itself, so its instances can be ordered against each other.
+    private static boolean isSelfComparable(Class<?> type) {
+        for (Type implemented : type.getGenericInterfaces()) {
+            if (implemented instanceof ParameterizedType parameterized
+                    && parameterized.getRawType() == Comparable.class
+                    && parameterized.getActualTypeArguments()[0] == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void grow() {
+        if (array.length >= Hashing.MAXIMUM_CAPACITY) return;
+        resize(array.length * 2);
+    }
+
+    // Grows the table once so that the specified number of elements fit without further resizing.
+    private void ensureCapacity(int expectedSize) {
+        int capacity = Hashing.tableSizeFor(expectedSize + (expectedSize / 3) + 1);
+        if (capacity > array.length) resize(capacity);
+    }
+
+    private void resize(int capacity) {
+        Object[] resizedArray = new Object[capacity];
+        for (Object bucket : array) {
+            if (bucket == null) continue;
+            for (E element : (Collection<E>) bucket) {
+                int hash = Hashing.indexFor(Hashing.spread(element.hashCode()), resizedArray.length);
+                if (resizedArray[hash] == null) resizedArray[hash] = new LinkedList<E>();
+                ((Collection<E>) resizedArray[hash]).add(element);
+            }
+        }
+        for (int i = 0; i < resizedArray.length; i++) {
+            if (resizedArray[i] != null) treeifyIfRequired(resizedArray, i);
+        }
+        array = resizedArray;
+    }
+
+    private void treeifyIfRequired(Object[] table, int hash) {
+        if (!(table[hash] instanceof LinkedList)) return;
+        LinkedList<E> bucket = (LinkedList<E>) table[hash];
+        if (bucket.size() <= TREEIFY_THRESHOLD) return;
+
+        // Elements can only be ordered against each other if they share a class with a natural ordering
+        Class<?> type = bucket.getFirst().getClass();
+        if (!isSelfComparable(type)) return;
+        Comparable[] elements = new Comparable[bucket.size()];
+        int index = 0;
+        for (E element : bucket) {
+            if (element.getClass() != type) return;
+            elements[index++] = (Comparable) element;
+        }
+        // The tree would merge distinct elements which compare as equal, such a bucket stays a list
+        Arrays.sort(elements);
+        for (int i = 1; i < elements.length; i++) {
+            if (elements[i - 1].compareTo(elements[i]) == 0) return;
+        }
+
+        LinkedBinaryTree tree = new LinkedBinaryTree();
+        for (Comparable element : elements) {
+            tree.add(element);
+        }
+        table[hash] = tree;
+    }
+
+    private LinkedList<E> toList(LinkedBinaryTree tree) {
+        LinkedList<E> bucket = new LinkedList<E>();
+        for (Object element : tree) {
+            bucket.addLast((E) element);
+        }
+        return bucket;
+    }
+
+    private void untreeifyIfRequired(int hash) {
+        if (!(array[hash] instanceof LinkedBinaryTree)) return;
+        LinkedBinaryTree tree = (LinkedBinaryTree) array[hash];
+        if (tree.size() > UNTREEIFY_THRESHOLD) return;
+        array[hash] = toList(tree);
+    }
+
+    /**
+     * Returns a new set containing only the elements present in both of the specified sets.
+     *
+     * <p>The smaller set is iterated and each of its elements is looked up in the larger one, large sets are split
+     * across the common {@code ForkJoinPool}.
+     *
+     * <p>Complexity: O(min(n, m)).
+     *
+     * @param a first set
+     * @param b second set
+     * @param <E> the type of the elements stored in the sets
+     * @return the intersection of the two sets
+     */
+    public static <E> HashSet<E> intersect(HashSet<E> a, HashSet<E> b) {
+        HashSet<E> smaller = (a.size <= b.size) ? a : b;
+        HashSet<E> larger = (smaller == a) ? b : a;
+
+        ArrayList<E>[] matches = smaller.collect(element -> larger.contains(element));
+        int count = 0;
+        for (ArrayList<E> found : matches) {
+            count += found.size();
+        }
+        HashSet<E> intersection = new HashSet<>();
+        intersection.ensureCapacity(count);
+        for (ArrayList<E> found : matches) {
+            for (int i = 0; i < found.size(); i++) {
+                intersection.add(found.get(i));
+            }
+        }
+        return intersection;
+    }
+
+    // Returns the elements of this set matching the filter, one list per chunk of the table. Only reads the sets, so
+    // large sets are filtered across the common ForkJoinPool.
+    private ArrayList<E>[] collect(Predicate<E> filter) {
+        int chunks = chunks();
+        ArrayList<E>[] matches = new ArrayList[chunks];
+        forEachChunk(chunks, chunk -> {
+            ArrayList<E> found = new ArrayList<>();
+            for (int i = chunkStart(chunk, chunks); i < chunkStart(chunk + 1, chunks); i++) {
+                if (array[i] == null) continue;
+                for (E element : (Collection<E>) array[i]) {
+                    if (filter.test(element)) found.addLast(element);
+                }
+            }
+            matches[chunk] = found;
+        });
+        return matches;
+    }
+
+    /**
+     * Removes every element which is also in the specified set.
+     *
+     * <p>Whichever set is smaller is iterated and large sets are split across the common {@code ForkJoinPool}. When
+     * the specified set is the smaller one only the lookups run in parallel, the elements found are then removed on
+     * the calling thread.
+     *
+     * <p>Complexity: O(min(n, m)).
+     *
+     * @param other set of elements to be removed
+     */
+    public void removeAll(HashSet<E> other) {
+        if (other == this) {
+            clear();
+        } else if (other.size < size) {
+            for (ArrayList<E> found : other.collect(element -> contains(element))) {
+                for (int i = 0; i < found.size(); i++) {
+                    remove(found.get(i));
+                }
+            }
+        } else {
+            removeIf(element -> other.contains(element));
+        }
+    }
+
+    /**
+     * Removes every element which is not also in the specified set.
+     *
+     * <p>Whichever set is smaller is iterated, large sets are split across the common {@code ForkJoinPool}.
+     *
+     * <p>Complexity: O(min(n, m)).
+     *
+     * @param other set of elements to be retained
+     */
+    public void retainAll(HashSet<E> other) {
+        if (other == this) {
+            return;
+        } else if (other.size < size) {
+            HashSet<E> intersection = intersect(other, this);
+            array = intersection.array;
+            size = intersection.size;
+        } else {
+            removeIf(element -> !other.contains(element));
+        }
+    }
+
+    // Filters every bucket in place, each chunk of the table is owned by a single task so buckets are never shared.
+    private void removeIf(Predicate<E> filter) {
+        int chunks = chunks();
+        int[] removed = new int[chunks];
+        forEachChunk(chunks, chunk -> {
+            for (int i = chunkStart(chunk, chunks); i < chunkStart(chunk + 1, chunks); i++) {
+                if (array[i] == null) continue;
+                Collection<E> bucket = (Collection<E>) array[i];
+                // The bucket is only rebuilt once an element is found to remove, most buckets are left untouched
+                LinkedList<E> kept = null;
+                int position = 0;
+                for (E element : bucket) {
+                    if (filter.test(element)) {
+                        if (kept == null) kept = prefix(bucket, position);
+                    } else if (kept != null) {
+                        kept.addLast(element);
+                    }
+                    position++;
+                }
+                if (kept == null) continue;
+                removed[chunk] += bucket.size() - kept.size();
+                array[i] = (kept.size() == 0) ? null : kept;
+                if (kept.size() != 0) treeifyIfRequired(array, i);
+            }
+        });
+        for (int count : removed) {
+            size -= count;
+        }
+    }
+
+    // Returns a list of the first count elements of the bucket.
+    private LinkedList<E> prefix(Collection<E> bucket, int count) {
+        LinkedList<E> list = new LinkedList<>();
+        Iterator<E> iterator = bucket.iterator();
+        for (int i = 0; i < count; i++) {
+            list.addLast(iterator.next());
+        }
+        return list;
+    }
+
+    /**
+     * Inserts every element of the specified set into this set.
+     *
+     * <p>The table is resized at most once up front. The elements not already in this set are found in parallel for
+     * large sets, as in {@code intersect}, and then inserted on the calling thread, as the table can only take one
+     * writer.
+     *
+     * <p>Complexity: O(m).
+     *
+     * @param other set of elements to be inserted
+     */
+    public void unionWith(HashSet<E> other) {
+        if (other == this) return;
+        ArrayList<E>[] missing = other.collect(element -> !contains(element));
+        int count = 0;
+        for (ArrayList<E> found : missing) {
+            count += found.size();
+        }
+        ensureCapacity(size + count);
+        for (ArrayList<E> found : missing) {
+            for (int i = 0; i < found.size(); i++) {
+                add(found.get(i));
+            }
+        }
+    }
+
+    private int chunks() {
+        if (size < PARALLEL_THRESHOLD) return 1;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(1, Math.min(array.length / MIN_CHUNK_BUCKETS, parallelism));
+    }
+
+    private int chunkStart(int chunk, int chunks) {
+        return (int) ((long) array.length * chunk / chunks);
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ChunkTask(0, chunks, action));
+        }
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        ChunkTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(from, middle, action), new ChunkTask(middle, to, action));
+            }
+        }
     }
 
     /**
@@ -67,19 +402,44 @@ public class HashSet<E> implements Collection<E> {
     /**
      * Returns true if the specified element is in the set.
      *
-     * <p>Complexity: O(n).
+     * <p>Complexity: O(1).
      *
      * @param element element to search the set for
      * @return true if the specified element is in the set
      */
     @Override
     public boolean contains(E element) {
-        int hash = element.hashCode() % array.length;
-        if ((array[hash] != null) && ((List<E>) array[hash]).contains(element)) {
-            return true;
+        Object bucket = array[indexFor(element)];
+        if (bucket instanceof LinkedBinaryTree) {
+            // Elements of another class are never in a tree, and a match on ordering alone is not enough
+            LinkedBinaryTree tree = (LinkedBinaryTree) bucket;
+            if (element.getClass() != tree.getFirst().getClass()) return false;
+            Object found = tree.find((Comparable) element);
+            return found != null && found.equals(element);
         } else {
-            return false;
+            return (bucket != null) && ((Collection<E>) bucket).contains(element);
+        }
+    }
+
+    private int indexFor(E element) {
+        return Hashing.indexFor(Hashing.spread(element.hashCode()), array.length);
+    }
+
+    /**
+     * Returns an immutable copy of the set held in a single open addressing table sized for its elements, which can be
+     * shared between threads without synchronization.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return frozen copy of the set
+     */
+    public FrozenHashSet<E> freeze() {
+        Object[] elements = new Object[size];
+        int index = 0;
+        for (E element : this) {
+            elements[index++] = element;
         }
+        return new FrozenHashSet<>(elements);
     }
 
     /**
@@ -104,7 +464,7 @@ public class HashSet<E> implements Collection<E> {
         public E next() {
             elementNum++;
             while (iterator == null || iterator.hasNext() == false) {
-                iterator = ((Collection) array[index]).iterator();
+                if (array[index] != null) iterator = ((Collection) array[index]).iterator();
                 index++;
             }
             return iterator.next();
@@ -118,18 +478,19 @@ public class HashSet<E> implements Collection<E> {
     /**
      * Removes the element from the set.
      *
-     * <p>Complexity: O(n).
+     * <p>Complexity: O(1).
      *
      * @param element element to be removed
      */
     @Override
     public void remove(E element) {
-        int hash = element.hashCode() % array.length;
-        if ((array[hash] != null) && ((List<E>) array[hash]).contains(element)) {
-            if (((List<E>) array[hash]).size() == 1) {
+        int hash = indexFor(element);
+        if (contains(element)) {
+            if (((Collection<E>) array[hash]).size() == 1) {
                 array[hash] = null;
             } else {
-                ((List<E>) array[hash]).remove(element);
+                ((Collection<E>) array[hash]).remove(element);
+                untreeifyIfRequired(hash);
             }
             size--;
         }
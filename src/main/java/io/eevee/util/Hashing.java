@@ -0,0 +1,31 @@
+package io.eevee.util;
+
+/**
+ * Hashing helpers shared by the hash based collections.
+ *
+ * <p>Tables are always a power of two in length so an index can be taken by masking rather than by division.
+ */
+final class Hashing {
+
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Hashing() {}
+
+    // Multiplying by the golden ratio scrambles clustered hash codes, such as sequential integers, across the high
+    // bits, and folding the high bits back down makes them count towards the low bits used by the mask.
+    static int spread(int hashCode) {
+        int hash = hashCode * 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    static int indexFor(int hash, int capacity) {
+        return hash & (capacity - 1);
+    }
+
+    // Smallest power of two which is greater than or equal to the specified capacity.
+    static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) return MAXIMUM_CAPACITY;
+        if (capacity <= 1) return 1;
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
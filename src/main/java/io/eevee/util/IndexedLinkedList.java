@@ -0,0 +1,489 @@
+package io.eevee.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Double linked list implementation of the {@code List} interface with its links held in arrays of indexes rather
+ * than in node objects.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(n)
+ *   <li>Insert - O(n)
+ *   <li>Remove - O(n)
+ * </ul>
+ *
+ * <p>Each element occupies a slot of three parallel arrays, the element itself and the slot indexes of the next and
+ * previous elements, so the list is a handful of objects however long it is. There is no object header per element
+ * and the garbage collector traces the element array in one pass instead of following a chain of nodes. Slots freed by
+ * removals are kept on a free chain linked through the next array and reused by later additions, slots past the
+ * highest one ever used are handed out in order, and the arrays double when every slot is in use.
+ * {@code trimToSize} compacts the live slots into list order, releasing the free slots.
+ *
+ * <p>The operations offered and their costs match {@code LinkedList}, adding and removing elements at the head and
+ * tail of the list takes constant time and a {@code ListIterator} works in constant time at its cursor.
+ *
+ * @see List
+ * @see LinkedList
+ * @param <E> the type of the elements stored in this collection
+ */
+public class IndexedLinkedList<E> implements List<E>, Iterable<E> {
+    private Object[] elements;
+    private int[] next;
+    private int[] previous;
+    private int head;
+    private int tail;
+    // First slot of the chain of freed slots, linked through the next array
+    private int free;
+    // Slots from here on have never been used
+    private int unused;
+    private int size;
+
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 10;
+    // Some virtual machines reserve header words in an array, so the largest arrays may fail to allocate
+    private static final int MAXIMUM_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    IndexedLinkedList() {
+        clear();
+    }
+
+    // Visible and strictly available for testing
+    void assertInvarients() {
+        int count = 0;
+        int expectedPrevious = NIL;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            assert previous[slot] == expectedPrevious;
+            expectedPrevious = slot;
+            count++;
+        }
+        assert expectedPrevious == tail && count == size;
+        for (int slot = free; slot != NIL; slot = next[slot]) {
+            assert elements[slot] == null;
+            count++;
+        }
+        assert count == unused;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException index specified is negative or greater then the length of the list
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        linkBefore(element, (index == size) ? NIL : slotOf(index));
+    }
+
+    /**
+     * Appends the specified element to the beginning of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be appended
+     */
+    @Override
+    public void add(E element) {
+        addFirst(element);
+    }
+
+    /**
+     * Appends the specified element to the beginning of the list.
+     *
+     * <p>Complexity: O(1) (Amortized).
+     *
+     * @param element element to be appended
+     */
+    public void addFirst(E element) {
+        linkBefore(element, head);
+    }
+
+    /**
+     * Appends the specified element to the end of the list.
+     *
+     * <p>Complexity: O(1) (Amortized).
+     *
+     * @param element element to be appended
+     */
+    public void addLast(E element) {
+        linkBefore(element, NIL);
+    }
+
+    // Takes a slot from the free chain if one is available, otherwise the next unused slot, growing the arrays if
+    // every slot is in use.
+    private int allocate() {
+        if (free != NIL) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        if (unused == elements.length) grow();
+        return unused++;
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Empties the list and releases its arrays.
+     *
+     * <p>Complexity: O(1).
+     */
+    @Override
+    public void clear() {
+        elements = new Object[DEFAULT_CAPACITY];
+        next = new int[DEFAULT_CAPACITY];
+        previous = new int[DEFAULT_CAPACITY];
+        head = NIL;
+        tail = NIL;
+        free = NIL;
+        unused = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns true if the specified element is in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to search the list for
+     * @return true if the specified element is in the list
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != NIL;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index of element to be retrieved
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is negative or greater then the length of the list
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return (E) elements[slotOf(index)];
+    }
+
+    /**
+     * Returns the first element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the first element in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public E getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return (E) elements[head];
+    }
+
+    /**
+     * Returns the last element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the last element in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public E getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return (E) elements[tail];
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min((long) elements.length * 2, MAXIMUM_ARRAY_LENGTH);
+        if (capacity <= elements.length) throw new IllegalStateException("List would exceed its maximum capacity");
+        elements = Arrays.copyOf(elements, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+    }
+
+    // Returns the slot of the first instance of the element, or NIL if it is not in the list.
+    private int indexOf(E element) {
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (elements[slot].equals(element)) return slot;
+        }
+        return NIL;
+    }
+
+    /**
+     * Returns iterator of the IndexedLinkedList.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new IndexedLinkedListIterator(0);
+    }
+
+    // Inserts the element before the successor slot, or at the end of the list if the successor is NIL.
+    private void linkBefore(E element, int successor) {
+        int slot = allocate();
+        int predecessor = (successor == NIL) ? tail : previous[successor];
+        elements[slot] = element;
+        next[slot] = successor;
+        previous[slot] = predecessor;
+        if (predecessor == NIL) {
+            head = slot;
+        } else {
+            next[predecessor] = slot;
+        }
+        if (successor == NIL) {
+            tail = slot;
+        } else {
+            previous[successor] = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Returns list iterator of the IndexedLinkedList, starting at the beginning of the list.
+     *
+     * @return list iterator positioned before the first element
+     */
+    public ListIterator<E> listIterator() {
+        return new IndexedLinkedListIterator(0);
+    }
+
+    /**
+     * Returns list iterator of the IndexedLinkedList, starting at the specified position in the list.
+     *
+     * <p>Complexity: O(n) to position the iterator, after which every operation of the iterator is O(1).
+     *
+     * @param index index of the first element to be returned by {@code next}
+     * @return list iterator positioned before the specified index
+     * @throws IndexOutOfBoundsException index specified is negative or greater then the length of the list
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        return new IndexedLinkedListIterator(index);
+    }
+
+    // The cursor sits between the slot previous to nextSlot and nextSlot itself, a nextSlot of NIL places it after the
+    // tail.
+    private class IndexedLinkedListIterator implements ListIterator<E> {
+        private int nextSlot;
+        private int lastReturned;
+        private int nextIndex;
+
+        IndexedLinkedListIterator(int index) {
+            nextSlot = (index == size) ? NIL : slotOf(index);
+            lastReturned = NIL;
+            nextIndex = index;
+        }
+
+        public void add(E element) {
+            linkBefore(element, nextSlot);
+            lastReturned = NIL;
+            nextIndex++;
+        }
+
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return (E) elements[lastReturned];
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public E previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+            nextSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return (E) elements[lastReturned];
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == NIL) throw new IllegalStateException();
+            if (nextSlot == lastReturned) {
+                // Removing the element returned by previous leaves the cursor index unchanged
+                nextSlot = next[lastReturned];
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = NIL;
+        }
+
+        public void set(E element) {
+            if (lastReturned == NIL) throw new IllegalStateException();
+            elements[lastReturned] = element;
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index of the element to be removed
+     * @throws IndexOutOfBoundsException index specified is negative, greater then the length of the list or method executed on empty list
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        unlink(slotOf(index));
+    }
+
+    /**
+     * Removes the first instance of the element in the list if it exists.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to be removed
+     * @throws NoSuchElementException method executed on empty list
+     */
+    @Override
+    public void remove(E element) {
+        if (size == 0) throw new NoSuchElementException();
+        int slot = indexOf(element);
+        if (slot != NIL) unlink(slot);
+    }
+
+    /**
+     * Removes the first element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        unlink(head);
+    }
+
+    /**
+     * Removes the last element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        unlink(tail);
+    }
+
+    /**
+     * Overwrites the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param index index of the element to be overwritten
+     * @param element element to be set
+     * @throws IndexOutOfBoundsException index specified is negative or greater then the length of the list
+     */
+    @Override
+    public void set(int index, E element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        elements[slotOf(index)] = element;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Walks from whichever end of the list is closer, so no lookup passes more than half of the slots.
+    private int slotOf(int index) {
+        int slot;
+        if (index < (size >>> 1)) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = previous[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Moves the elements into consecutive slots in list order and shrinks the arrays to the size of the list,
+     * releasing every free slot. Iteration afterwards walks the arrays sequentially.
+     *
+     * <p>Complexity: O(n).
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, DEFAULT_CAPACITY);
+        Object[] compactElements = new Object[capacity];
+        int[] compactNext = new int[capacity];
+        int[] compactPrevious = new int[capacity];
+        int slot = head;
+        for (int i = 0; i < size; i++) {
+            compactElements[i] = elements[slot];
+            compactNext[i] = (i == size - 1) ? NIL : i + 1;
+            compactPrevious[i] = i - 1;
+            slot = next[slot];
+        }
+        elements = compactElements;
+        next = compactNext;
+        previous = compactPrevious;
+        head = (size == 0) ? NIL : 0;
+        tail = size - 1;
+        free = NIL;
+        unused = size;
+    }
+
+    // Removes the element in the slot, which must be in the list, and pushes the slot onto the free chain.
+    private void unlink(int slot) {
+        int predecessor = previous[slot];
+        int successor = next[slot];
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            next[predecessor] = successor;
+        }
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            previous[successor] = predecessor;
+        }
+        elements[slot] = null;
+        next[slot] = free;
+        free = slot;
+        size--;
+    }
+}
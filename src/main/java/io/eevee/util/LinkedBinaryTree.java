@@ -17,7 +17,8 @@ import java.util.NoSuchElementException;
  *   <li>Remove - O(log(n))
  * </ul>
  *
- * <p>If elements are non-random in their insertion then performance degrades to O(n).
+ * <p>The tree is kept height balanced (AVL) by rotating nodes after every insert and removal, so the bounds above
+ * hold regardless of the order in which elements are inserted.
  *
  * @see Collection
  * @param <E> the type of the elements stored in this collection
@@ -33,13 +34,23 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
 
     // Visible and strictly available for testing
     void assertInvarients() {
-        assert (size == 0) ? (root == null) : (root != null);
+        assert (size == 0) ? (root == null) : (root != null && root.parent == null);
+        assertBalanced(root);
+    }
+
+    private int assertBalanced(Node<E> node) {
+        if (node == null) return 0;
+        int leftHeight = assertBalanced(node.leftChild);
+        int rightHeight = assertBalanced(node.rightChild);
+        assert Math.abs(leftHeight - rightHeight) <= 1;
+        assert node.height == Math.max(leftHeight, rightHeight) + 1;
+        return node.height;
     }
 
     /**
      * Inserts the element in the collection.
      *
-     * <p>Complexity: O(1).
+     * <p>Complexity: O(log(n)).
      *
      * @param element element to be appended
      * @throws NullPointerException if the specified element is null
@@ -58,6 +69,7 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
                 if (node.leftChild == null) {
                     node.leftChild = new Node(element, node);
                     size++;
+                    rebalance(node);
                     break;
                 } else {
                     node = node.leftChild;
@@ -66,6 +78,7 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
                 if (node.rightChild == null) {
                     node.rightChild = new Node(element, node);
                     size++;
+                    rebalance(node);
                     break;
                 } else {
                     node = node.rightChild;
@@ -106,22 +119,27 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
      */
     @Override
     public boolean contains(E element) {
+        return find(element) != null;
+    }
+
+    // Returns the element of the collection which orders equally to the specified element, or null if there is none.
+    E find(E element) {
         requireNonNull(element);
         Node<E> node = root;
         if (size == 0) {
-            return false;
+            return null;
         } else while (true) {
             if (isEquivalent(node.element, element)) {
-                return true;
+                return node.element;
             } else if (isElementOfLowerNaturalOrdering(node.element, element)) {
                 if (node.leftChild == null) {
-                    return false;
+                    return null;
                 } else {
                     node = node.leftChild;
                 }
             } else {
                 if (node.rightChild == null) {
-                    return false;
+                    return null;
                 } else {
                     node = node.rightChild;
                 }
@@ -129,6 +147,23 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
         }
     }
 
+    /**
+     * Returns an immutable copy of the collection held as a sorted array searched by binary search, which can be
+     * shared between threads without synchronization.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return frozen copy of the collection
+     */
+    public FrozenSortedSet<E> freeze() {
+        Object[] elements = new Object[size];
+        int index = 0;
+        for (E element : this) {
+            elements[index++] = element;
+        }
+        return new FrozenSortedSet<>(elements);
+    }
+
     /**
      * Returns the element at the specified position in the collection.
      *
@@ -220,7 +255,7 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
         private int index;
 
         LinkedBinaryTreeIterator() {
-            node = getLeftmostNode(root);
+            node = (root == null) ? null : getLeftmostNode(root);
             index = 0;
         }
 
@@ -250,75 +285,96 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
     @Override
     public void remove(E element) {
         requireNonNull(element);
-        if (size == 0) {
-            throw new NoSuchElementException();
-        } else if (size == 1) {
-            if (isEquivalent(root.element, element)) clear();
-        } else { 
-            Node<E> node = root;
-            while (true) {
-                if (isEquivalent(node.element, element)) {
-                    unlinkNode(node);
-                    size--;
-                    break;
-                } else if (isElementOfLowerNaturalOrdering(node.element, element)) {
-                    if (node.leftChild == null) {
-                        break;
-                    } else {
-                        node = node.leftChild;
-                    }
-                } else {
-                    if (node.rightChild == null) {
-                        break;
-                    } else {
-                        node = node.rightChild;
-                    }
-                }
+        if (size == 0) throw new NoSuchElementException();
+        Node<E> node = root;
+        while (node != null) {
+            if (isEquivalent(node.element, element)) {
+                unlinkNode(node);
+                break;
+            } else if (isElementOfLowerNaturalOrdering(node.element, element)) {
+                node = node.leftChild;
+            } else {
+                node = node.rightChild;
             }
         }
     }
 
+    // A node with two children takes the element of its successor, which has no left child, and the successor is
+    // unlinked in its place.
     private void unlinkNode(Node<E> node) {
-        if (node == root) {
-            unlinkRoot();
-        } else if (node.isLeftChild()) {
-            node.parent.leftChild = node.leftChild;
-            if (node.rightChild == null) return;
-            if (node.parent.rightChild == null) {
-                node.parent.rightChild = node.rightChild;
-                node.rightChild.parent = node.parent.rightChild;
-            } else {
-                Node<E> tmp = getLeftmostNode(node.parent.rightChild);
-                tmp.leftChild = node.rightChild;
-                node.rightChild.parent = tmp;
-            }
+        if (node.leftChild != null && node.rightChild != null) {
+            Node<E> successor = getLeftmostNode(node.rightChild);
+            node.element = successor.element;
+            node = successor;
+        }
+        Node<E> child = (node.leftChild != null) ? node.leftChild : node.rightChild;
+        replaceChild(node.parent, node, child);
+        size--;
+        rebalance(node.parent);
+    }
+
+    private void replaceChild(Node<E> parent, Node<E> oldChild, Node<E> newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.leftChild == oldChild) {
+            parent.leftChild = newChild;
         } else {
-            node.parent.rightChild = node.rightChild;
-            if (node.rightChild == null) return;
-            if (node.parent.leftChild == null) {
-                node.parent.leftChild = node.leftChild;
-                node.leftChild.parent = node.parent.leftChild;
-            } else {
-                Node<E> tmp = getRightmostNode(node.parent.leftChild);
-                tmp.rightChild = node.leftChild;
-                node.leftChild.parent = tmp;
+            parent.rightChild = newChild;
+        }
+        if (newChild != null) newChild.parent = parent;
+    }
+
+    // Walks from the node to the root restoring heights and rotating any node whose subtrees differ in height by more
+    // than one.
+    private void rebalance(Node<E> node) {
+        while (node != null) {
+            updateHeight(node);
+            int balance = height(node.leftChild) - height(node.rightChild);
+            if (balance > 1) {
+                if (height(node.leftChild.leftChild) < height(node.leftChild.rightChild)) {
+                    rotateLeft(node.leftChild);
+                }
+                node = rotateRight(node);
+            } else if (balance < -1) {
+                if (height(node.rightChild.rightChild) < height(node.rightChild.leftChild)) {
+                    rotateRight(node.rightChild);
+                }
+                node = rotateLeft(node);
             }
+            node = node.parent;
         }
     }
 
-    private void unlinkRoot() {
-        Node<E> oldRoot = root;
-        Node<E> childToBeMoved = oldRoot.leftChild.rightChild;
-        Node<E> leftEdgeOfRightChild = getLeftmostNode(oldRoot.rightChild);
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> pivot = node.rightChild;
+        node.rightChild = pivot.leftChild;
+        if (pivot.leftChild != null) pivot.leftChild.parent = node;
+        replaceChild(node.parent, node, pivot);
+        pivot.leftChild = node;
+        node.parent = pivot;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
 
-        root = root.leftChild;
-        root.parent = null;
-        root.rightChild = oldRoot.rightChild;
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> pivot = node.leftChild;
+        node.leftChild = pivot.rightChild;
+        if (pivot.rightChild != null) pivot.rightChild.parent = node;
+        replaceChild(node.parent, node, pivot);
+        pivot.rightChild = node;
+        node.parent = pivot;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
 
-        oldRoot.rightChild.parent = root;
+    private int height(Node<E> node) {
+        return (node == null) ? 0 : node.height;
+    }
 
-        leftEdgeOfRightChild.leftChild = childToBeMoved;
-        childToBeMoved.parent = leftEdgeOfRightChild;
+    private void updateHeight(Node<E> node) {
+        node.height = Math.max(height(node.leftChild), height(node.rightChild)) + 1;
     }
 
     /**
@@ -329,18 +385,8 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
      * @throws NoSuchElementException method executed on empty collection
      */
     public void removeFirst() {
-        if (size == 0) {
-            throw new NoSuchElementException();
-        } else if (size == 1) {
-            clear();
-        } else if (root.leftChild == null) {
-            root = root.rightChild;
-            root.parent = null;
-            size--;
-        } else {
-            getLeftmostNode(root).parent.leftChild = null;
-            size--;
-        }
+        if (size == 0) throw new NoSuchElementException();
+        unlinkNode(getLeftmostNode(root));
     }
 
     /**
@@ -351,17 +397,8 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
      * @throws NoSuchElementException method executed on empty collection
      */
     public void removeLast() {
-        if (size == 0) {
-            throw new NoSuchElementException();
-        } else if (size == 1) {
-            clear();
-        } else if (root.rightChild == null) {
-            root = root.leftChild;
-            size--;
-        } else {
-            getRightmostNode(root).parent.rightChild = null;
-            size--;
-        }
+        if (size == 0) throw new NoSuchElementException();
+        unlinkNode(getRightmostNode(root));
     }
 
     /**
@@ -381,12 +418,14 @@ public class LinkedBinaryTree<E extends Comparable<E>> implements Collection<E>
         Node<E> parent;
         Node<E> leftChild;
         Node<E> rightChild;
+        int height;
 
         Node(E element, Node<E> parent) {
             this.element = element;
             this.parent = parent;
             leftChild = null;
             rightChild = null;
+            height = 1;
         }
 
         private boolean isLeftChild() {
@@ -1,6 +1,7 @@
 package io.eevee.util;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 
@@ -16,7 +17,12 @@ import java.util.NoSuchElementException;
  * </ul>
  * 
  * <p>Certain operations such as adding or removing elements from the head and tail of the list can be performed in
- * constant time.
+ * constant time. Positional operations walk from whichever end of the list is closer to the index, and a
+ * {@code ListIterator} adds, sets and removes elements at its cursor in constant time.
+ *
+ * <p>A list may be created with a node pool, a bounded free list of removed nodes which later additions reuse, so a
+ * list used as a queue, adding at one end and removing at the other, allocates no nodes at all in its steady state.
+ * The pool is disabled by default.
  *
  * @see List
  * @param <E> the type of the elements stored in this collection
@@ -25,11 +31,22 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
     private Node<E> head;
     private Node<E> tail;
     int size;
+    private Node<E> pool;
+    private int pooledNodes;
+    private final int poolCapacity;
 
     LinkedList() {
+        this(0);
+    }
+
+    LinkedList(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException();
+        this.poolCapacity = poolCapacity;
         head = null;
         tail = null;
         size = 0;
+        pool = null;
+        pooledNodes = 0;
     }
     
     // Visible and strictly available for testing
@@ -54,9 +71,7 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         } else if (index == 0) {
             addFirst(element);
         } else if (index < size) {
-            Node<E> node = getNode(index - 1);
-            node.next = new Node(element, node.next, node);
-            size++;
+            linkBefore(element, getNode(index));
         } else {
             addLast(element);
         }
@@ -82,9 +97,11 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
      * @param element element to be appended
      */
     public void addFirst(E element) {
-        head = new Node<E>(element, head, null);
+        head = newNode(element, head, null);
         if (size == 0) {
             tail = head;
+        } else {
+            head.next.previous = head;
         }
         size++;
     }
@@ -100,7 +117,7 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         if (size == 0) {
             addFirst(element);
         } else {
-            tail.next = new Node(element, null, tail);
+            tail.next = newNode(element, null, tail);
             tail = tail.next;
             size++;
         }
@@ -183,10 +200,19 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         return tail.element;
     }
 
+    // Walks from whichever end of the list is closer, so no lookup passes more than half of the nodes.
     private Node<E> getNode(int index) {
-        Node<E> node = head;
-        for(int i = 0; i < index; i++) {
-            node = node.next;
+        Node<E> node;
+        if (index < (size >>> 1)) {
+            node = head;
+            for (int i = 0; i < index; i++) {
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            for (int i = size - 1; i > index; i--) {
+                node = node.previous;
+            }
         }
         return node;
     }
@@ -221,6 +247,125 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         }
     }
 
+    // Inserts the element before the successor, which must be a node of the list.
+    private void linkBefore(E element, Node<E> successor) {
+        Node<E> node = newNode(element, successor, successor.previous);
+        if (successor.previous == null) {
+            head = node;
+        } else {
+            successor.previous.next = node;
+        }
+        successor.previous = node;
+        size++;
+    }
+
+    // Takes a node from the pool if one is available, otherwise allocates one.
+    private Node<E> newNode(E element, Node<E> next, Node<E> previous) {
+        if (pool == null) return new Node<E>(element, next, previous);
+        Node<E> node = pool;
+        pool = node.next;
+        pooledNodes--;
+        node.element = element;
+        node.next = next;
+        node.previous = previous;
+        return node;
+    }
+
+    /**
+     * Returns list iterator of the LinkedList, starting at the beginning of the list.
+     *
+     * @return list iterator positioned before the first element
+     */
+    public ListIterator<E> listIterator() {
+        return new LinkedListListIterator(0);
+    }
+
+    /**
+     * Returns list iterator of the LinkedList, starting at the specified position in the list.
+     *
+     * <p>Complexity: O(n) to position the iterator, after which every operation of the iterator is O(1).
+     *
+     * @param index index of the first element to be returned by {@code next}
+     * @return list iterator positioned before the specified index
+     * @throws IndexOutOfBoundsException index specified is negative or greater then the length of the list
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        return new LinkedListListIterator(index);
+    }
+
+    // The cursor sits between the node previous to next and next itself, a next of null places it after the tail.
+    private class LinkedListListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+
+        LinkedListListIterator(int index) {
+            next = (index == size) ? null : getNode(index);
+            lastReturned = null;
+            nextIndex = index;
+        }
+
+        public void add(E element) {
+            if (next == null) {
+                addLast(element);
+            } else {
+                linkBefore(element, next);
+            }
+            lastReturned = null;
+            nextIndex++;
+        }
+
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public E previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+            next = (next == null) ? tail : next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.element;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            if (next == lastReturned) {
+                // Removing the element returned by previous leaves the cursor index unchanged
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+        }
+
+        public void set(E element) {
+            if (lastReturned == null) throw new IllegalStateException();
+            lastReturned.element = element;
+        }
+    }
+
     /**
      * Removes the element at the specified position in the list.
      *
@@ -238,10 +383,7 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         } else if (index == (size - 1)) {
             removeLast();
         } else {
-            Node<E> node = getNode(index - 1);
-            node.next = node.next.next;
-            node.next.previous = node;
-            size--;
+            unlink(getNode(index));
         }
     }
 
@@ -262,9 +404,7 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         }
         for (Node<E> node = head.next; node.next != null; node = node.next) {
             if (element.equals(node.element)) {
-                node.previous.next = node.next;
-                node.next.previous = node.previous;
-                size--;
+                unlink(node);
                 return;
             }
         }
@@ -282,13 +422,7 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
      */
     public void removeFirst() {
         if (size == 0) throw new NoSuchElementException();
-        if (size == 1) {
-            clear();
-        } else {
-            head = head.next;
-            head.previous = null;
-            size--;
-        }
+        unlink(head);
     }
 
     /**
@@ -300,13 +434,7 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
      */
     public void removeLast() {
         if (size == 0) throw new NoSuchElementException();
-        if (size == 1) {
-            clear();
-        } else {
-            tail = tail.previous;
-            tail.next = null;
-            size--;
-        }
+        unlink(tail);
     }
 
     /**
@@ -337,6 +465,40 @@ public class LinkedList<E> implements List<E>, Iterable<E> {
         return size;
     }
 
+    // Clears the removed node so it holds on to nothing and returns it to the pool if there is room.
+    private void release(Node<E> node) {
+        node.element = null;
+        node.previous = null;
+        if (pooledNodes < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            pooledNodes++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    // Visible and strictly available for testing
+    int pooledNodes() {
+        return pooledNodes;
+    }
+
+    // Removes the node, which must be a node of the list, and releases it.
+    private void unlink(Node<E> node) {
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        size--;
+        release(node);
+    }
+
     private static class Node<E> {
         E element;
         Node<E> next;
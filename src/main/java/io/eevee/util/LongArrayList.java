@@ -0,0 +1,400 @@
+package io.eevee.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * Array list of primitive {@code long} values.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized)
+ *   <li>Remove - O(n)
+ * </ul>
+ *
+ * <p>Shares the circular buffer layout of {@code ArrayList} but stores the values directly in an {@code long[]}, so no
+ * value is ever boxed.
+ *
+ * @see ArrayList
+ */
+public class LongArrayList {
+    private int head;
+    private int size;
+    private long[] array;
+    private final int maximumCapacity;
+
+    private static final int DEFAULT_CAPACITY = 10;
+    // Some virtual machines reserve header words in an array, so the largest arrays may fail to allocate
+    private static final int MAXIMUM_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    LongArrayList() {
+        this(MAXIMUM_ARRAY_LENGTH);
+    }
+
+    // Visible and strictly available for testing, caps the list below the largest array so growth can be exercised
+    LongArrayList(int maximumCapacity) {
+        if (maximumCapacity < 1) throw new IllegalArgumentException();
+        this.maximumCapacity = Math.min(maximumCapacity, MAXIMUM_ARRAY_LENGTH);
+        head = 0;
+        size = 0;
+        array = new long[Math.min(DEFAULT_CAPACITY, this.maximumCapacity)];
+    }
+
+    /**
+     * Inserts the value at the specific index.
+     *
+     * <p>Complexity: O(1) at either end of the list (Amortized), O(n) otherwise.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param element value to be inserted
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()})
+     * @throws IllegalStateException if the list would exceed its maximum capacity
+     */
+    public void add(int index, long element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (size == array.length) grow(size + 1);
+
+        if (index < (size - index)) {
+            head = calculateAdjustedIndex(-1);
+            moveRange(1, 0, index);
+        } else {
+            moveRange(index, index + 1, size - index);
+        }
+        array[calculateAdjustedIndex(index)] = element;
+        size++;
+    }
+
+    /**
+     * Appends every value of the array to the end of the list.
+     *
+     * <p>Complexity: O(k) (Amortized).
+     *
+     * @param elements values to be appended
+     * @throws IllegalStateException if the list would exceed its maximum capacity
+     */
+    public void addAll(long[] elements) {
+        if ((long) size + elements.length > array.length) grow((long) size + elements.length);
+        int tail = calculateAdjustedIndex(size);
+        int firstSegment = Math.min(elements.length, array.length - tail);
+        System.arraycopy(elements, 0, array, tail, firstSegment);
+        System.arraycopy(elements, firstSegment, array, 0, elements.length - firstSegment);
+        size += elements.length;
+    }
+
+    /**
+     * Inserts the value at the beginning of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element value to be inserted
+     */
+    public void addFirst(long element) {
+        add(0, element);
+    }
+
+    /**
+     * Inserts the value at the end of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element value to be inserted
+     */
+    public void addLast(long element) {
+        add(size, element);
+    }
+
+    // Only valid for indexes within a single capacity of the head, which is all the list ever requires.
+    private int calculateAdjustedIndex(int index) {
+        int adjustedIndex = head + index;
+        if (adjustedIndex >= array.length) {
+            return adjustedIndex - array.length;
+        } else if (adjustedIndex < 0) {
+            return adjustedIndex + array.length;
+        } else {
+            return adjustedIndex;
+        }
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Empties the list.
+     *
+     * <p>Complexity: O(1).
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        array = new long[Math.min(DEFAULT_CAPACITY, maximumCapacity)];
+    }
+
+    /**
+     * Returns true if the specified value is in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element value to search the list for
+     * @return true if the specified value is in the list
+     */
+    public boolean contains(long element) {
+        for (int i = 0; i < size; i++) {
+            if (array[calculateAdjustedIndex(i)] == element) return true;
+        }
+        return false;
+    }
+
+    // Copies the values in order to the start of the destination array, at most two copies are required as the
+    // values may wrap around the end of the array.
+    private void copyTo(long[] destination) {
+        int firstSegment = Math.min(size, array.length - head);
+        System.arraycopy(array, head, destination, 0, firstSegment);
+        System.arraycopy(array, 0, destination, firstSegment, size - firstSegment);
+    }
+
+    /**
+     * If required increases the capacity of the array to the specified size, never beyond the largest array the list
+     * can allocate.
+     *
+     * @param minCapacity minimum capacity required
+     */
+    public void ensureCapacity(int minCapacity) {
+        minCapacity = Math.min(minCapacity, maximumCapacity);
+        if (array.length < minCapacity) {
+            long[] resizedArray = new long[minCapacity];
+            copyTo(resizedArray);
+            head = 0;
+            array = resizedArray;
+        }
+    }
+
+    /**
+     * Performs the action for every value in the list in order, without boxing.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param action action to be performed for each value
+     */
+    public void forEach(LongConsumer action) {
+        int firstSegment = Math.min(size, array.length - head);
+        for (int i = head; i < head + firstSegment; i++) {
+            action.accept(array[i]);
+        }
+        for (int i = 0; i < size - firstSegment; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of value to be retrieved
+     * @return the value at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()})
+     */
+    public long get(int index) {
+        if (index < 0 || size <= index) throw new IndexOutOfBoundsException();
+        return array[calculateAdjustedIndex(index)];
+    }
+
+    /**
+     * Returns the first value in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the first value in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public long getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return array[head];
+    }
+
+    /**
+     * Returns the last value in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the last value in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public long getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return array[calculateAdjustedIndex(size - 1)];
+    }
+
+    // Doubles the capacity, or jumps small lists to the default capacity, computed in long so the largest lists never
+    // overflow into a negative capacity, and capped at the maximum capacity.
+    private void grow(long minCapacity) {
+        if (minCapacity > maximumCapacity) throw new IllegalStateException("List would exceed its maximum capacity");
+        long capacity = Math.max((long) array.length * 2, DEFAULT_CAPACITY);
+        ensureCapacity((int) Math.min(Math.max(capacity, minCapacity), maximumCapacity));
+    }
+
+    // Moves count values starting at the logical index from so that they start at the logical index to, splitting the
+    // copy wherever the source or destination wraps around the end of the array.
+    private void moveRange(int from, int to, int count) {
+        if (to > from) {
+            while (count > 0) {
+                int sourceEnd = calculateAdjustedIndex(from + count - 1) + 1;
+                int destinationEnd = calculateAdjustedIndex(to + count - 1) + 1;
+                int length = Math.min(count, Math.min(sourceEnd, destinationEnd));
+                System.arraycopy(array, sourceEnd - length, array, destinationEnd - length, length);
+                count -= length;
+            }
+        } else {
+            while (count > 0) {
+                int source = calculateAdjustedIndex(from);
+                int destination = calculateAdjustedIndex(to);
+                int length = Math.min(count, Math.min(array.length - source, array.length - destination));
+                System.arraycopy(array, source, array, destination, length);
+                from += length;
+                to += length;
+                count -= length;
+            }
+        }
+    }
+
+    // Rotates the array in place so the values start at index zero, only required when they wrap around the end of
+    // the array.
+    private void normalize() {
+        if (head + size <= array.length) return;
+        reverse(0, head);
+        reverse(head, array.length);
+        reverse(0, array.length);
+        head = 0;
+    }
+
+    /**
+     * Sorts the list in place into numerical order using parallel sub-arrays merged on the common {@code ForkJoinPool},
+     * falling back to a sequential sort for small lists.
+     *
+     * <p>Complexity: O(n log(n)).
+     */
+    public void parallelSort() {
+        normalize();
+        Arrays.parallelSort(array, head, head + size);
+    }
+
+    /**
+     * Removes the value at the specified position in the list.
+     *
+     * <p>Complexity: O(1) at either end of the list, O(n) otherwise.
+     *
+     * @param index index of the value to be removed
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()}) or if
+     * method executed on empty list
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        if (index < (size - 1 - index)) {
+            moveRange(0, 1, index);
+            head = calculateAdjustedIndex(1);
+        } else {
+            moveRange(index + 1, index, size - 1 - index);
+        }
+        size--;
+    }
+
+    /**
+     * Removes the first value in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        remove(0);
+    }
+
+    /**
+     * Removes the last value in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        remove(size - 1);
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            long value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Replaces the value at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of the value to be overwritten
+     * @param element value to be set
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()}) or if
+     * method executed on empty list
+     */
+    public void set(int index, long element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        array[calculateAdjustedIndex(index)] = element;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts the list in place into numerical order.
+     *
+     * <p>Complexity: O(n log(n)).
+     */
+    public void sort() {
+        normalize();
+        Arrays.sort(array, head, head + size);
+    }
+
+    /**
+     * Returns a new array holding the values of the list in order.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @return array of the values in the list
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        copyTo(values);
+        return values;
+    }
+
+    /**
+     * Trims the list to the exact size of the number of values in the list.
+     *
+     * <p>Complexity: O(n).
+     */
+    public void trimToSize() {
+        if (array.length > size) {
+            long[] trimmedArray = new long[size];
+            copyTo(trimmedArray);
+            head = 0;
+            array = trimmedArray;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntBiFunction;
+
+
+/**
+ * Thread safe, size bounded cache evicting the least recently used entries.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>The cache is split into a power of two number of segments selected by the hash of the key, each with its own
+ * lock and {@code HashMap} index. Entries are nodes of an intrusive doubly linked list ordered from least to most
+ * recently used, so a hit relinks its node at the tail and an eviction unlinks the head without searching. The maximum
+ * weight applies to the whole cache through a single shared counter of the total weight, but a put which takes the
+ * total over the maximum evicts the least recently used entries of its own segment, whose lock it already holds, so
+ * puts to different segments never contend. Recency is therefore tracked per segment, the entry evicted is the least
+ * recently used of its segment rather than of the whole cache. Only when the new entry outweighs everything else in
+ * its segment are entries evicted from the other segments, taking their locks one at a time.
+ *
+ * <p>Entries weigh one unless a weigher is supplied, hit, miss and eviction counts are kept across all segments.
+ *
+ * @see HashMap
+ * @param <K> the type of the keys stored in this cache
+ * @param <V> the type of the values stored in this cache
+ */
+public class LruCache<K, V> {
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final long maxWeight;
+    private final AtomicLong weight;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAXIMUM_CONCURRENCY_LEVEL = 1 << 16;
+
+    LruCache(long maxWeight) {
+        this(maxWeight, (key, value) -> 1);
+    }
+
+    LruCache(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+        this(maxWeight, weigher, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    LruCache(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher, int concurrencyLevel) {
+        if (maxWeight < 1 || concurrencyLevel < 1) throw new IllegalArgumentException();
+        requireNonNull(weigher);
+        int count = Hashing.tableSizeFor(Math.min(concurrencyLevel, MAXIMUM_CONCURRENCY_LEVEL));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<K, V>();
+        }
+        segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.maxWeight = maxWeight;
+        weight = new AtomicLong(0);
+        this.weigher = weigher;
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    /**
+     * Empties the cache, the hit, miss and eviction counts are kept.
+     *
+     * <p>Complexity: O(1).
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                weight.addAndGet(-segment.weight);
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of evictions made to keep the cache within its maximum weight.
+     *
+     * @return number of evictions
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    // Evicts from every other segment in turn, and finally from the segment of the new entry, until the cache is back
+    // within its maximum weight, holding a single segment lock at a time. Returns the number of entries evicted.
+    private int evictAcrossSegments(int start) {
+        int evicted = 0;
+        for (int i = 1; i <= segments.length && weight.get() > maxWeight; i++) {
+            Segment<K, V> segment = segments[(start + i) & (segments.length - 1)];
+            synchronized (segment) {
+                while (weight.get() > maxWeight && segment.head != null) {
+                    weight.addAndGet(-segment.evictEldest());
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the value of the specified key, marking it as the most recently used, or null if the key is not cached.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key whose value is to be returned
+     * @return the value of the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Segment<K, V> segment = segments[segmentIndex(key)];
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of calls to {@code get} which found a value.
+     *
+     * @return number of hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the maximum total weight of the entries in the cache.
+     *
+     * @return maximum weight of the cache
+     */
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns the number of calls to {@code get} which found no value.
+     *
+     * @return number of misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Associates the value with the specified key as the most recently used entry, evicting the least recently used
+     * entries of its segment until the cache is back within its maximum weight. An entry heavier than the maximum
+     * weight is itself evicted once every other entry has been.
+     *
+     * <p>Complexity: O(1) (Amortized).
+     *
+     * @param key key with which the value is to be associated
+     * @param value value to be associated with the key
+     * @throws NullPointerException if the specified key or value is null
+     * @throws IllegalArgumentException if the weigher returns a negative weight
+     */
+    public void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) throw new IllegalArgumentException();
+        int index = segmentIndex(key);
+        Segment<K, V> segment = segments[index];
+        int evicted = 0;
+        synchronized (segment) {
+            this.weight.addAndGet(segment.put(key, value, weight));
+            // The new entry is the tail, so it is kept while anything else in the segment remains to be evicted
+            while (this.weight.get() > maxWeight && segment.head != segment.tail) {
+                this.weight.addAndGet(-segment.evictEldest());
+                evicted++;
+            }
+        }
+        if (this.weight.get() > maxWeight) evicted += evictAcrossSegments(index);
+        if (evicted > 0) evictions.add(evicted);
+    }
+
+    /**
+     * Removes the key and its value from the cache if it exists.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key to be removed
+     * @throws NullPointerException if the specified key is null
+     */
+    public void remove(K key) {
+        requireNonNull(key);
+        Segment<K, V> segment = segments[segmentIndex(key)];
+        synchronized (segment) {
+            weight.addAndGet(-segment.remove(key));
+        }
+    }
+
+    // The high bits select the segment as the low bits of the same hash select the slot within its HashMap.
+    private int segmentIndex(K key) {
+        int hash = Hashing.spread(key.hashCode());
+        return (segments.length == 1) ? 0 : hash >>> segmentShift;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * <p>Complexity: O(s) where s is the number of segments.
+     *
+     * @return size of the cache
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.index.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the total weight of the entries in the cache.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return weight of the cache
+     */
+    public long weight() {
+        return weight.get();
+    }
+
+    // Not thread safe, every call is made holding the monitor of the segment.
+    private static class Segment<K, V> {
+        final HashMap<K, Node<K, V>> index;
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+
+        Segment() {
+            index = new HashMap<>();
+            head = null;
+            tail = null;
+            weight = 0;
+        }
+
+        void clear() {
+            index.clear();
+            head = null;
+            tail = null;
+            weight = 0;
+        }
+
+        // Removes the least recently used entry of the segment, which must not be empty, and returns its weight.
+        long evictEldest() {
+            Node<K, V> eldest = head;
+            index.remove(eldest.key);
+            unlink(eldest);
+            weight -= eldest.weight;
+            return eldest.weight;
+        }
+
+        V get(K key) {
+            Node<K, V> node = index.get(key);
+            if (node == null) return null;
+            if (node != tail) {
+                unlink(node);
+                linkLast(node);
+            }
+            return node.value;
+        }
+
+        // Returns the change in the weight of the segment.
+        long put(K key, V value, int weight) {
+            Node<K, V> node = index.get(key);
+            long change = weight;
+            if (node == null) {
+                node = new Node<K, V>(key, value, weight);
+                index.put(key, node);
+            } else {
+                change -= node.weight;
+                node.value = value;
+                node.weight = weight;
+                unlink(node);
+            }
+            linkLast(node);
+            this.weight += change;
+            return change;
+        }
+
+        // Returns the weight removed from the segment.
+        long remove(K key) {
+            Node<K, V> node = index.remove(key);
+            if (node == null) return 0;
+            unlink(node);
+            weight -= node.weight;
+            return node.weight;
+        }
+
+        private void linkLast(Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        private void unlink(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+    }
+
+    private static class Node<K, V> {
+        final K key;
+        V value;
+        int weight;
+        Node<K, V> next;
+        Node<K, V> previous;
+
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
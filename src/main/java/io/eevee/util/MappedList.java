@@ -0,0 +1,310 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Persistent array list of fixed size byte array elements stored in a memory mapped file.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized) at either end of the list
+ *   <li>Remove - O(1) at either end of the list
+ * </ul>
+ *
+ * <p>The file starts with a header recording a magic number, the element size, and the head, size and capacity of a
+ * circular buffer laid out in the same manner as {@code ArrayList}, followed by the elements. The whole file is
+ * mapped into memory, so opening an existing list only reads its header and pages of elements are loaded by the
+ * operating system as they are first accessed. Every change is written straight into the mapping, {@code force} makes
+ * the changes durable. Growing extends the file, remaps it and moves any elements which wrapped around the end of the
+ * old element region to just after it.
+ *
+ * <p>The file is held in a single mapping, so the header and elements together are limited to
+ * {@code Integer.MAX_VALUE} bytes.
+ *
+ * @see ArrayList
+ */
+public class MappedList implements Closeable {
+    private final FileChannel channel;
+    private final int elementSize;
+    private MappedByteBuffer buffer;
+    private int head;
+    private int size;
+    private int capacity;
+
+    private static final int MAGIC = 0x4d4c5354;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int ELEMENT_SIZE_OFFSET = 4;
+    private static final int HEAD_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int HEADER_SIZE = 32;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Opens the list stored in the file, creating the file if it does not exist.
+     *
+     * @param path path of the file holding the list
+     * @param elementSize size in bytes of every element
+     * @throws IOException if the file cannot be opened or mapped, or holds no list
+     * @throws IllegalArgumentException if the element size is not positive or differs from that of the stored list
+     */
+    MappedList(Path path, int elementSize) throws IOException {
+        if (elementSize < 1) throw new IllegalArgumentException();
+        this.elementSize = elementSize;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                capacity = DEFAULT_CAPACITY;
+                map();
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+                buffer.putInt(ELEMENT_SIZE_OFFSET, elementSize);
+                writeHeader();
+            } else {
+                if (channel.size() < HEADER_SIZE) throw new IOException("Not a mapped list: " + path);
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+                if (buffer.getInt(MAGIC_OFFSET) != MAGIC) throw new IOException("Not a mapped list: " + path);
+                if (buffer.getInt(ELEMENT_SIZE_OFFSET) != elementSize) throw new IllegalArgumentException();
+                head = buffer.getInt(HEAD_OFFSET);
+                size = buffer.getInt(SIZE_OFFSET);
+                capacity = buffer.getInt(CAPACITY_OFFSET);
+                map();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts a copy of the element at the beginning of the list.
+     *
+     * <p>Complexity: O(1) (Amortized).
+     *
+     * @param element element to be inserted
+     * @throws IllegalArgumentException if the element is not exactly the element size
+     */
+    public void addFirst(byte[] element) {
+        checkElement(element);
+        if (size == capacity) grow();
+        head = calculateAdjustedIndex(-1);
+        buffer.put(offsetOf(0), element);
+        size++;
+        writeHeader();
+    }
+
+    /**
+     * Inserts a copy of the element at the end of the list.
+     *
+     * <p>Complexity: O(1) (Amortized).
+     *
+     * @param element element to be appended
+     * @throws IllegalArgumentException if the element is not exactly the element size
+     */
+    public void addLast(byte[] element) {
+        checkElement(element);
+        if (size == capacity) grow();
+        buffer.put(offsetOf(size), element);
+        size++;
+        writeHeader();
+    }
+
+    // Only valid for indexes within a single capacity of the head
+    private int calculateAdjustedIndex(int index) {
+        int adjustedIndex = head + index;
+        if (adjustedIndex >= capacity) {
+            return adjustedIndex - capacity;
+        } else if (adjustedIndex < 0) {
+            return adjustedIndex + capacity;
+        } else {
+            return adjustedIndex;
+        }
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return capacity;
+    }
+
+    private void checkElement(byte[] element) {
+        requireNonNull(element);
+        if (element.length != elementSize) throw new IllegalArgumentException();
+    }
+
+    /**
+     * Empties the list, the file keeps its current size.
+     *
+     * <p>Complexity: O(1).
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        writeHeader();
+    }
+
+    /**
+     * Forces any changes to the list to be written to the file and closes it.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Returns the size in bytes of every element.
+     *
+     * @return element size of the list
+     */
+    public int elementSize() {
+        return elementSize;
+    }
+
+    /**
+     * Forces every change to the list to be written to the file.
+     *
+     * <p>Complexity: O(n) in the number of changed pages.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Returns a copy of the element at the specified position in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of element to be retrieved
+     * @return copy of the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    public byte[] get(int index) {
+        byte[] element = new byte[elementSize];
+        get(index, element);
+        return element;
+    }
+
+    /**
+     * Copies the element at the specified position in the list into the destination, without allocating.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of element to be retrieved
+     * @param destination array the element is copied into
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     * @throws IllegalArgumentException if the destination is not exactly the element size
+     */
+    public void get(int index, byte[] destination) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        checkElement(destination);
+        buffer.get(offsetOf(index), destination);
+    }
+
+    // Doubles the element region, moving the elements which wrapped around the end of the old region to just past it
+    // so they follow on from the elements before the end.
+    private void grow() {
+        long newCapacity = Math.max((long) capacity * 2, DEFAULT_CAPACITY);
+        if (HEADER_SIZE + newCapacity * elementSize > Integer.MAX_VALUE) {
+            newCapacity = (Integer.MAX_VALUE - HEADER_SIZE) / elementSize;
+            if (newCapacity <= capacity) throw new IllegalStateException();
+        }
+        int oldCapacity = capacity;
+        capacity = (int) newCapacity;
+        map();
+        int wrapped = head + size - oldCapacity;
+        if (wrapped > 0) {
+            // Only a capped final growth can leave too little room for every wrapped element, the rest stay wrapped
+            int moved = Math.min(wrapped, capacity - oldCapacity);
+            buffer.put(HEADER_SIZE + oldCapacity * elementSize, buffer, HEADER_SIZE, moved * elementSize);
+            buffer.put(HEADER_SIZE, buffer, HEADER_SIZE + moved * elementSize, (wrapped - moved) * elementSize);
+        }
+        writeHeader();
+    }
+
+    // Mapping a region beyond the end of the file extends the file to cover it.
+    private void map() {
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * elementSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int offsetOf(int index) {
+        return HEADER_SIZE + calculateAdjustedIndex(index) * elementSize;
+    }
+
+    /**
+     * Removes the first element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        head = calculateAdjustedIndex(1);
+        size--;
+        writeHeader();
+    }
+
+    /**
+     * Removes the last element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        size--;
+        writeHeader();
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with a copy of the element.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param index index of the element to be overwritten
+     * @param element element to be set
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     * @throws IllegalArgumentException if the element is not exactly the element size
+     */
+    public void set(int index, byte[] element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        checkElement(element);
+        buffer.put(offsetOf(index), element);
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(HEAD_OFFSET, head);
+        buffer.putInt(SIZE_OFFSET, size);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+    }
+}
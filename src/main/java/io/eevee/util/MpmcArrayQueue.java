@@ -0,0 +1,205 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+
+/**
+ * Lock free, bounded, multi-producer multi-consumer queue.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>Elements are stored in a circular buffer in the same manner as {@code ArrayList}, but the head and tail are ever
+ * increasing counters masked into a power of two array. Every slot carries a sequence number recording whose turn it
+ * is: a producer may only fill the slot when its sequence equals the tail claimed by the producer, and a consumer may
+ * only empty it when its sequence is one past the claimed head. Producers claim a tail and consumers claim a head with
+ * a single compare and set, the element is then written or read and the slot handed over by a release store of its
+ * sequence. Neither {@code offer} nor {@code poll} ever blocks, they fail when the queue is full or empty.
+ *
+ * <p>The head and tail are each padded onto their own cache line so producers and consumers do not contend on the
+ * same line.
+ *
+ * @see ArrayList
+ * @param <E> the type of the elements stored in this queue
+ */
+public class MpmcArrayQueue<E> {
+    private final Object[] buffer;
+    private final long[] sequences;
+    private final int mask;
+    private final PaddedCounter head;
+    private final PaddedCounter tail;
+
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    MpmcArrayQueue(int capacity) {
+        if (capacity < 2 || capacity > Hashing.MAXIMUM_CAPACITY) throw new IllegalArgumentException();
+        int length = Hashing.tableSizeFor(capacity);
+        buffer = new Object[length];
+        sequences = new long[length];
+        for (int i = 0; i < length; i++) {
+            sequences[i] = i;
+        }
+        mask = length - 1;
+        head = new PaddedCounter(0);
+        tail = new PaddedCounter(0);
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold, the requested capacity rounded up to a power of two.
+     *
+     * @return capacity of the queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Removes up to the limit of elements from the head of the queue, passing each to the consumer in order.
+     *
+     * <p>The slots already published ahead of the head are counted by reading their sequences, and the whole batch is
+     * claimed with a single compare and set of the head, so consumers contend once per batch rather than once per
+     * element. Each slot is handed back to the producers as soon as its element has been read. Every claimed element
+     * is passed to the consumer even if it throws, the first exception is rethrown once the batch is complete.
+     *
+     * <p>Complexity: O(k) where k is the number of elements drained.
+     *
+     * @param consumer consumer of the drained elements
+     * @param limit maximum number of elements to be drained
+     * @return number of elements drained
+     * @throws NullPointerException if the specified consumer is null
+     */
+    public int drainTo(Consumer<? super E> consumer, int limit) {
+        requireNonNull(consumer);
+        int batch = Math.min(limit, buffer.length);
+        long position;
+        int count;
+        while (true) {
+            position = head.get();
+            count = 0;
+            while (count < batch) {
+                long difference = (long) SEQUENCE.getAcquire(sequences, (int) (position + count) & mask)
+                    - (position + count + 1);
+                // The batch ends at an empty slot, a slot a producer has not finished writing, or a slot another
+                // consumer has already taken
+                if (difference != 0) break;
+                count++;
+            }
+            if (count == 0) {
+                // An unmoved head means the head slot is empty rather than taken
+                if (head.get() == position) return 0;
+            } else if (head.compareAndSet(position, position + count)) {
+                break;
+            }
+        }
+
+        Throwable failure = null;
+        for (int i = 0; i < count; i++) {
+            int index = (int) (position + i) & mask;
+            E element = (E) ELEMENT.get(buffer, index);
+            ELEMENT.set(buffer, index, null);
+            // Hands the slot to the producer of the next lap
+            SEQUENCE.setRelease(sequences, index, position + i + buffer.length);
+            try {
+                consumer.accept(element);
+            } catch (RuntimeException | Error e) {
+                if (failure == null) failure = e;
+            }
+        }
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        return count;
+    }
+
+    /**
+     * Returns true if the queue held no elements at the moment it was checked.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Inserts the element at the tail of the queue if there is room for it.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be inserted
+     * @return true if the element was inserted, false if the queue is full
+     * @throws NullPointerException if the specified element is null
+     */
+    public boolean offer(E element) {
+        requireNonNull(element);
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    ELEMENT.set(buffer, index, element);
+                    SEQUENCE.setRelease(sequences, index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // The slot still holds the element written a full lap ago
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head of the queue.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the head of the queue, or null if the queue is empty
+     */
+    public E poll() {
+        while (true) {
+            long position = head.get();
+            int index = (int) position & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = (E) ELEMENT.get(buffer, index);
+                    ELEMENT.set(buffer, index, null);
+                    // Hands the slot to the producer of the next lap
+                    SEQUENCE.setRelease(sequences, index, position + buffer.length);
+                    return element;
+                }
+            } else if (difference < 0) {
+                // The queue is empty, or the producer which claimed the slot has not finished writing it
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the queue, which may be stale as soon as it is returned.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the queue
+     */
+    public int size() {
+        // Reading the head either side of the tail gives a consistent pair when neither moved in between
+        while (true) {
+            long before = head.get();
+            long currentTail = tail.get();
+            long after = head.get();
+            if (before == after) return (int) Math.max(0, Math.min(currentTail - after, buffer.length));
+        }
+    }
+}
@@ -26,6 +26,17 @@ public class Murmur {
         return hash;
     }
 
+    public static int hash(int data) {
+        return hash(data, DEFAULT_SEED);
+    }
+
+    // Equivalent to hashing the 4 bytes of the int in Little-endian order without allocating an array for them.
+    public static int hash(int data, int seed) {
+        int hash = mix(seed, data);
+        hash = finalMix(hash, 4);
+        return hash;
+    }
+
     // Translates 4 sequential bytes stored in Little-endian format into a standard size 32 bit unsigned int.
     //
     // Bitmasking with 0xff performs fast translation from a signed byte to an unsigned int
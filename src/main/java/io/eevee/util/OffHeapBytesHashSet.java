@@ -0,0 +1,255 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Hash set of byte arrays stored outside of the Java heap.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>Added keys are copied into large direct {@code ByteBuffer} slabs and the set itself only holds an open
+ * addressing index of primitive arrays recording the hash, slab address and length of each key. Keys are therefore
+ * compared by content rather than identity and the garbage collector never sees the stored keys. Keys are hashed with
+ * {@code Murmur} once on insertion and the hash kept in the index, so resizing never rereads the stored bytes.
+ *
+ * <p>Removing a key only removes it from the index, the bytes it occupied are not reclaimed until the set is cleared.
+ *
+ * @see Set
+ * @see Murmur
+ */
+public class OffHeapBytesHashSet implements Set<byte[]> {
+    private ByteBuffer[] slabs;
+    private int slabCount;
+    private int[] hashes;
+    private long[] addresses;
+    private int[] lengths;
+    private int size;
+    private final int slabSize;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_SLAB_SIZE = 1 << 24;
+
+    // Unused index slots are marked by an address no slab can produce.
+    private static final long EMPTY = -1L;
+
+    OffHeapBytesHashSet() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    OffHeapBytesHashSet(int slabSize) {
+        if (slabSize < 1) throw new IllegalArgumentException();
+        this.slabSize = slabSize;
+        clear();
+    }
+
+    /**
+     * Copies the key into the set if an equal key is not already present.
+     *
+     * <p>Complexity: O(1) - (Amortized)
+     *
+     * @param key key to be copied into the set
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public void add(byte[] key) {
+        requireNonNull(key);
+        int hash = Murmur.hash(key);
+        int index = indexOf(key, hash);
+        if (addresses[index] != EMPTY) return;
+
+        hashes[index] = hash;
+        addresses[index] = store(key);
+        lengths[index] = key.length;
+        size++;
+        if (size > addresses.length - (addresses.length >>> 2)) grow();
+    }
+
+    // Addresses hold the slab number in the high 32 bits and the position within the slab in the low 32 bits.
+    private long store(byte[] key) {
+        ByteBuffer slab = (slabCount == 0) ? null : slabs[slabCount - 1];
+        if (slab == null || slab.remaining() < key.length) {
+            slab = ByteBuffer.allocateDirect(Math.max(slabSize, key.length));
+            if (slabCount == slabs.length) {
+                ByteBuffer[] resizedSlabs = new ByteBuffer[slabs.length * 2];
+                System.arraycopy(slabs, 0, resizedSlabs, 0, slabCount);
+                slabs = resizedSlabs;
+            }
+            slabs[slabCount++] = slab;
+        }
+        int position = slab.position();
+        slab.put(key);
+        return ((long) (slabCount - 1) << 32) | position;
+    }
+
+    /**
+     * Empties the set and releases every slab.
+     *
+     * <p>Complexity: O(1).
+     */
+    @Override
+    public void clear() {
+        slabs = new ByteBuffer[1];
+        slabCount = 0;
+        hashes = new int[DEFAULT_CAPACITY];
+        addresses = new long[DEFAULT_CAPACITY];
+        lengths = new int[DEFAULT_CAPACITY];
+        Arrays.fill(addresses, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Returns true if a key with the same content is in the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key to search the set for
+     * @return true if a key with the same content is in the set
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean contains(byte[] key) {
+        requireNonNull(key);
+        return addresses[indexOf(key, Murmur.hash(key))] != EMPTY;
+    }
+
+    private boolean contentEquals(int index, byte[] key) {
+        ByteBuffer slab = slabs[(int) (addresses[index] >>> 32)];
+        int position = (int) addresses[index];
+        for (int i = 0; i < key.length; i++) {
+            if (slab.get(position + i) != key[i]) return false;
+        }
+        return true;
+    }
+
+    private void grow() {
+        int[] oldHashes = hashes;
+        long[] oldAddresses = addresses;
+        int[] oldLengths = lengths;
+        hashes = new int[oldHashes.length * 2];
+        addresses = new long[oldHashes.length * 2];
+        lengths = new int[oldHashes.length * 2];
+        Arrays.fill(addresses, EMPTY);
+        for (int i = 0; i < oldAddresses.length; i++) {
+            if (oldAddresses[i] == EMPTY) continue;
+            int index = slotFor(oldHashes[i]);
+            while (addresses[index] != EMPTY) {
+                index = Hashing.indexFor(index + 1, addresses.length);
+            }
+            hashes[index] = oldHashes[i];
+            addresses[index] = oldAddresses[i];
+            lengths[index] = oldLengths[i];
+        }
+    }
+
+    // Returns the slot holding the key, or the empty slot which ends its probe run if the key is not in the set.
+    private int indexOf(byte[] key, int hash) {
+        int index = slotFor(hash);
+        while (addresses[index] != EMPTY) {
+            if (hashes[index] == hash && lengths[index] == key.length && contentEquals(index, key)) break;
+            index = Hashing.indexFor(index + 1, addresses.length);
+        }
+        return index;
+    }
+
+    /**
+     * Returns iterator of the set, each key is copied back onto the heap as it is returned.
+     */
+    @Override
+    public Iterator<byte[]> iterator() {
+        return new OffHeapBytesHashSetIterator();
+    }
+
+    private class OffHeapBytesHashSetIterator implements Iterator<byte[]> {
+        private int index;
+        private int elementNum;
+
+        OffHeapBytesHashSetIterator() {
+            index = 0;
+            elementNum = 0;
+        }
+
+        public byte[] next() {
+            if (elementNum >= size) throw new NoSuchElementException();
+            while (addresses[index] == EMPTY) {
+                index++;
+            }
+            byte[] key = new byte[lengths[index]];
+            slabs[(int) (addresses[index] >>> 32)].get((int) addresses[index], key);
+            index++;
+            elementNum++;
+            return key;
+        }
+
+        public boolean hasNext() {
+            return elementNum < size;
+        }
+    }
+
+    // Visible and strictly available for testing
+    long offHeapBytes() {
+        long bytes = 0;
+        for (int i = 0; i < slabCount; i++) {
+            bytes += slabs[i].capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes the key with the same content from the set if it exists.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key to be removed
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public void remove(byte[] key) {
+        requireNonNull(key);
+        int gap = indexOf(key, Murmur.hash(key));
+        if (addresses[gap] == EMPTY) return;
+
+        // Pulls back every later key in the probe run which would otherwise be unreachable past the gap.
+        int index = Hashing.indexFor(gap + 1, addresses.length);
+        while (addresses[index] != EMPTY) {
+            int distanceFromSlot = Hashing.indexFor(index - slotFor(hashes[index]), addresses.length);
+            int distanceFromGap = Hashing.indexFor(index - gap, addresses.length);
+            if (distanceFromSlot >= distanceFromGap) {
+                hashes[gap] = hashes[index];
+                addresses[gap] = addresses[index];
+                lengths[gap] = lengths[index];
+                gap = index;
+            }
+            index = Hashing.indexFor(index + 1, addresses.length);
+        }
+        addresses[gap] = EMPTY;
+        size--;
+    }
+
+    /**
+     * Returns the size of the set.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the set
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int slotFor(int hash) {
+        return Hashing.indexFor(Hashing.spread(hash), addresses.length);
+    }
+}
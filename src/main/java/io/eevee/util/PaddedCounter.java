@@ -0,0 +1,63 @@
+package io.eevee.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counter padded onto its own cache line, shared by the concurrent queues.
+ *
+ * <p>The JVM is free to reorder the fields of a class but always places the fields of a superclass before those of its
+ * subclasses, so the value is padded by splitting the counter across a class hierarchy with 64 bytes of unused fields
+ * either side of it. Two counters written by different threads therefore never share a cache line.
+ */
+final class PaddedCounter extends PaddedCounterValue {
+    long q1, q2, q3, q4, q5, q6, q7, q8;
+
+    PaddedCounter(long value) {
+        VALUE.setRelease(this, value);
+    }
+
+    boolean compareAndSet(long expected, long value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    long get() {
+        return (long) VALUE.getVolatile(this);
+    }
+
+    long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    // Only valid when read by the thread which writes the counter.
+    long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    // Only valid when the counter is read and written by a single thread.
+    void setPlain(long value) {
+        VALUE.set(this, value);
+    }
+
+    void setRelease(long value) {
+        VALUE.setRelease(this, value);
+    }
+}
+
+abstract class PaddedCounterValue extends PaddedCounterPadding {
+    volatile long value;
+
+    static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(PaddedCounterValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
+
+abstract class PaddedCounterPadding {
+    long p1, p2, p3, p4, p5, p6, p7, p8;
+}
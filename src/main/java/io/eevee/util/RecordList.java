@@ -0,0 +1,412 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+
+/**
+ * List of fixed width records stored outside of the Java heap, one column per field.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1) (Amortized)
+ *   <li>Remove - O(n)
+ * </ul>
+ *
+ * <p>The list is created with a schema of primitive field types and each field is stored in its own direct
+ * {@code ByteBuffer} column in native byte order, so a record costs exactly the width of its fields, with no object
+ * header or reference, and a scan of one field reads a single contiguous run of memory. Records are addressed by row
+ * index and their fields read and written with the getter and setter for the field's type. Columns grow together in
+ * the same manner as {@code ArrayList}.
+ *
+ * <p>Each column is a single buffer addressed by {@code int} byte offsets, so the number of records is limited to
+ * {@code Integer.MAX_VALUE} divided by the width of the widest field, around 268 million records when the schema
+ * holds a {@code LONG} or {@code DOUBLE} field.
+ *
+ * @see ArrayList
+ * @see OffHeapBytesHashSet
+ */
+public class RecordList {
+    private final FieldType[] schema;
+    private ByteBuffer[] columns;
+    private int size;
+    private int capacity;
+    private final int maximumRows;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Primitive type of a field of the records.
+     */
+    public enum FieldType {
+        BYTE(Byte.BYTES),
+        SHORT(Short.BYTES),
+        INT(Integer.BYTES),
+        LONG(Long.BYTES),
+        FLOAT(Float.BYTES),
+        DOUBLE(Double.BYTES);
+
+        private final int width;
+
+        FieldType(int width) {
+            this.width = width;
+        }
+
+        /**
+         * Returns the number of bytes the field occupies in each record.
+         *
+         * @return width of the field in bytes
+         */
+        public int width() {
+            return width;
+        }
+    }
+
+    RecordList(FieldType... schema) {
+        if (schema.length == 0) throw new IllegalArgumentException();
+        for (FieldType type : schema) {
+            requireNonNull(type);
+        }
+        this.schema = schema.clone();
+        int widest = 0;
+        for (FieldType type : schema) {
+            widest = Math.max(widest, type.width);
+        }
+        maximumRows = Integer.MAX_VALUE / widest;
+        clear();
+    }
+
+    /**
+     * Appends a record with every field set to zero.
+     *
+     * <p>Complexity: O(1) (Amortized).
+     *
+     * @return row index of the new record
+     * @throws IllegalStateException if the list already holds the maximum number of records
+     */
+    public int add() {
+        if (size == capacity) grow();
+        return size++;
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    // Visible and strictly available for testing
+    int capacity() {
+        return capacity;
+    }
+
+    // Returns the byte offset of the field of the row, after checking both exist and the field has the expected type.
+    private int checkedOffset(int row, int field, FieldType type) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException();
+        if (field < 0 || field >= schema.length) throw new IndexOutOfBoundsException();
+        if (schema[field] != type) throw new IllegalArgumentException();
+        return row * type.width;
+    }
+
+    /**
+     * Empties the list and releases every column.
+     *
+     * <p>Complexity: O(f) where f is the number of fields.
+     */
+    public void clear() {
+        size = 0;
+        capacity = DEFAULT_CAPACITY;
+        columns = new ByteBuffer[schema.length];
+        for (int i = 0; i < schema.length; i++) {
+            columns[i] = allocate(capacity * schema[i].width);
+        }
+    }
+
+    /**
+     * Returns a read only view of the column of the field covering every record in the list, positioned at the first
+     * record and in native byte order, for sequential scans of a single field.
+     *
+     * <p>The view is invalidated by any change which grows the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param field index of the field in the schema
+     * @return read only view of the column
+     * @throws IndexOutOfBoundsException field specified is out of range
+     */
+    public ByteBuffer column(int field) {
+        if (field < 0 || field >= schema.length) throw new IndexOutOfBoundsException();
+        return columns[field].asReadOnlyBuffer().limit(size * schema[field].width).position(0)
+            .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * If required increases the capacity of every column to the specified number of records.
+     *
+     * @param minCapacity minimum capacity required
+     * @throws IllegalStateException if a column of the specified number of records would not fit in a buffer
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > maximumRows) {
+            throw new IllegalStateException("Record list would exceed its maximum of " + maximumRows + " records");
+        }
+        if (capacity < minCapacity) {
+            for (int i = 0; i < schema.length; i++) {
+                ByteBuffer resizedColumn = allocate(minCapacity * schema[i].width);
+                resizedColumn.put(0, columns[i], 0, size * schema[i].width);
+                columns[i] = resizedColumn;
+            }
+            capacity = minCapacity;
+        }
+    }
+
+    /**
+     * Returns the field of the record, which must be of type {@code BYTE}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @return value of the field
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code BYTE}
+     */
+    public byte getByte(int row, int field) {
+        return columns[field].get(checkedOffset(row, field, FieldType.BYTE));
+    }
+
+    /**
+     * Returns the field of the record, which must be of type {@code DOUBLE}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @return value of the field
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code DOUBLE}
+     */
+    public double getDouble(int row, int field) {
+        return columns[field].getDouble(checkedOffset(row, field, FieldType.DOUBLE));
+    }
+
+    /**
+     * Returns the field of the record, which must be of type {@code FLOAT}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @return value of the field
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code FLOAT}
+     */
+    public float getFloat(int row, int field) {
+        return columns[field].getFloat(checkedOffset(row, field, FieldType.FLOAT));
+    }
+
+    /**
+     * Returns the field of the record, which must be of type {@code INT}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @return value of the field
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code INT}
+     */
+    public int getInt(int row, int field) {
+        return columns[field].getInt(checkedOffset(row, field, FieldType.INT));
+    }
+
+    /**
+     * Returns the field of the record, which must be of type {@code LONG}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @return value of the field
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code LONG}
+     */
+    public long getLong(int row, int field) {
+        return columns[field].getLong(checkedOffset(row, field, FieldType.LONG));
+    }
+
+    /**
+     * Returns the field of the record, which must be of type {@code SHORT}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @return value of the field
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code SHORT}
+     */
+    public short getShort(int row, int field) {
+        return columns[field].getShort(checkedOffset(row, field, FieldType.SHORT));
+    }
+
+    // Doubles the capacity in long arithmetic, stopping at the maximum number of records.
+    private void grow() {
+        if (capacity == maximumRows) {
+            throw new IllegalStateException("Record list would exceed its maximum of " + maximumRows + " records");
+        }
+        ensureCapacity((int) Math.min(Math.max((long) capacity * 2, DEFAULT_CAPACITY), maximumRows));
+    }
+
+    // Visible and strictly available for testing
+    int maximumRows() {
+        return maximumRows;
+    }
+
+    /**
+     * Removes the record at the specified row, shifting every later record down by one row.
+     *
+     * <p>Complexity: O(1) at the end of the list, O(n) otherwise.
+     *
+     * @param row row index of the record to be removed
+     * @throws IndexOutOfBoundsException row specified is out of range ({@code row < 0 || row >= size()})
+     */
+    public void remove(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException();
+        for (int i = 0; i < schema.length; i++) {
+            int width = schema[i].width;
+            ByteBuffer column = columns[i];
+            column.put(row * width, column, (row + 1) * width, (size - row - 1) * width);
+            // Leaves the vacated row zeroed for the next record added
+            for (int j = (size - 1) * width; j < size * width; j++) {
+                column.put(j, (byte) 0);
+            }
+        }
+        size--;
+    }
+
+    /**
+     * Removes the last record in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        remove(size - 1);
+    }
+
+    /**
+     * Returns the schema of the records.
+     *
+     * @return copy of the field types in schema order
+     */
+    public FieldType[] schema() {
+        return schema.clone();
+    }
+
+    /**
+     * Sets the field of the record, which must be of type {@code BYTE}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @param value value to be set
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code BYTE}
+     */
+    public void setByte(int row, int field, byte value) {
+        columns[field].put(checkedOffset(row, field, FieldType.BYTE), value);
+    }
+
+    /**
+     * Sets the field of the record, which must be of type {@code DOUBLE}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @param value value to be set
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code DOUBLE}
+     */
+    public void setDouble(int row, int field, double value) {
+        columns[field].putDouble(checkedOffset(row, field, FieldType.DOUBLE), value);
+    }
+
+    /**
+     * Sets the field of the record, which must be of type {@code FLOAT}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @param value value to be set
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code FLOAT}
+     */
+    public void setFloat(int row, int field, float value) {
+        columns[field].putFloat(checkedOffset(row, field, FieldType.FLOAT), value);
+    }
+
+    /**
+     * Sets the field of the record, which must be of type {@code INT}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @param value value to be set
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code INT}
+     */
+    public void setInt(int row, int field, int value) {
+        columns[field].putInt(checkedOffset(row, field, FieldType.INT), value);
+    }
+
+    /**
+     * Sets the field of the record, which must be of type {@code LONG}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @param value value to be set
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code LONG}
+     */
+    public void setLong(int row, int field, long value) {
+        columns[field].putLong(checkedOffset(row, field, FieldType.LONG), value);
+    }
+
+    /**
+     * Sets the field of the record, which must be of type {@code SHORT}.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param row row index of the record
+     * @param field index of the field in the schema
+     * @param value value to be set
+     * @throws IndexOutOfBoundsException row or field specified is out of range
+     * @throws IllegalArgumentException field is not of type {@code SHORT}
+     */
+    public void setShort(int row, int field, short value) {
+        columns[field].putShort(checkedOffset(row, field, FieldType.SHORT), value);
+    }
+
+    /**
+     * Returns the number of records in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
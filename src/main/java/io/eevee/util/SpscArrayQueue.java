@@ -0,0 +1,209 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+
+
+/**
+ * Lock free, bounded, single-producer single-consumer queue.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>Elements are stored in a power of two circular buffer indexed by ever increasing head and tail counters, as in
+ * {@code MpmcArrayQueue}. With a single thread on each side neither counter needs a compare and set: the producer
+ * writes elements with plain stores and publishes them with one release store of the tail, and the consumer reads them
+ * and hands the slots back with one release store of the head. Each side also keeps a cached copy of the other side's
+ * counter and only rereads the real counter when the cache says the queue is full or empty, so the counters' cache
+ * lines are rarely shared. The batch {@code offer} and {@code drain} publish a whole batch with a single release store.
+ *
+ * <p>Only one thread may offer and only one thread may poll or drain at any time, the queue is not safe otherwise.
+ *
+ * @see MpmcArrayQueue
+ * @param <E> the type of the elements stored in this queue
+ */
+public class SpscArrayQueue<E> {
+    private final Object[] buffer;
+    private final int mask;
+    private final PaddedCounter head;
+    private final PaddedCounter tail;
+    // Read and written only by the producer
+    private final PaddedCounter headCache;
+    // Read and written only by the consumer
+    private final PaddedCounter tailCache;
+
+    SpscArrayQueue(int capacity) {
+        if (capacity < 2 || capacity > Hashing.MAXIMUM_CAPACITY) throw new IllegalArgumentException();
+        buffer = new Object[Hashing.tableSizeFor(capacity)];
+        mask = buffer.length - 1;
+        head = new PaddedCounter(0);
+        tail = new PaddedCounter(0);
+        headCache = new PaddedCounter(0);
+        tailCache = new PaddedCounter(0);
+    }
+
+    // Returns how many elements the producer can write, only rereading the head when the cached head shows too few.
+    private long available(long position, int wanted) {
+        long available = headCache.getPlain() + buffer.length - position;
+        if (available < wanted) {
+            headCache.setPlain(head.getAcquire());
+            available = headCache.getPlain() + buffer.length - position;
+        }
+        return available;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold, the requested capacity rounded up to a power of two.
+     *
+     * @return capacity of the queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Removes up to the limit of elements from the head of the queue, passing each to the consumer in order, and hands
+     * their slots back to the producer with a single release store.
+     *
+     * <p>Complexity: O(k) where k is the number of elements drained.
+     *
+     * @param consumer consumer of the drained elements
+     * @param limit maximum number of elements to be drained
+     * @return number of elements drained
+     * @throws NullPointerException if the specified consumer is null
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        requireNonNull(consumer);
+        long position = head.getPlain();
+        int count = (int) Math.min(limit, ready(position, limit));
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int index = (int) (position + drained) & mask;
+                E element = (E) buffer[index];
+                buffer[index] = null;
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            // Elements already taken stay taken even if the consumer throws
+            if (drained > 0) head.setRelease(position + drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns true if the queue held no elements at the moment it was checked.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Inserts the element at the tail of the queue if there is room for it.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be inserted
+     * @return true if the element was inserted, false if the queue is full
+     * @throws NullPointerException if the specified element is null
+     */
+    public boolean offer(E element) {
+        requireNonNull(element);
+        long position = tail.getPlain();
+        if (available(position, 1) < 1) return false;
+        buffer[(int) position & mask] = element;
+        tail.setRelease(position + 1);
+        return true;
+    }
+
+    /**
+     * Inserts as many of the first n elements of the array as there is room for at the tail of the queue, publishing
+     * them to the consumer with a single release store.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param elements array holding the elements to be inserted
+     * @param n number of elements from the start of the array to be inserted
+     * @return number of elements inserted
+     * @throws NullPointerException if the array or any of the first n elements is null
+     * @throws IndexOutOfBoundsException if n is negative or greater than the length of the array
+     */
+    public int offer(E[] elements, int n) {
+        if (n < 0 || n > elements.length) throw new IndexOutOfBoundsException();
+        long position = tail.getPlain();
+        int count = (int) Math.min(n, available(position, n));
+        for (int i = 0; i < count; i++) {
+            buffer[(int) (position + i) & mask] = requireNonNull(elements[i]);
+        }
+        if (count > 0) tail.setRelease(position + count);
+        return count;
+    }
+
+    /**
+     * Returns the element at the head of the queue without removing it.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the head of the queue, or null if the queue is empty
+     */
+    public E peek() {
+        long position = head.getPlain();
+        if (ready(position, 1) < 1) return null;
+        return (E) buffer[(int) position & mask];
+    }
+
+    /**
+     * Removes and returns the element at the head of the queue.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the element at the head of the queue, or null if the queue is empty
+     */
+    public E poll() {
+        long position = head.getPlain();
+        if (ready(position, 1) < 1) return null;
+        int index = (int) position & mask;
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        head.setRelease(position + 1);
+        return element;
+    }
+
+    // Returns how many elements the consumer can read, only rereading the tail when the cached tail shows too few.
+    private long ready(long position, int wanted) {
+        long ready = tailCache.getPlain() - position;
+        if (ready < wanted) {
+            tailCache.setPlain(tail.getAcquire());
+            ready = tailCache.getPlain() - position;
+        }
+        return ready;
+    }
+
+    /**
+     * Returns the number of elements in the queue, which may be stale as soon as it is returned.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the queue
+     */
+    public int size() {
+        // Reading the head either side of the tail gives a consistent pair when neither moved in between
+        while (true) {
+            long before = head.get();
+            long currentTail = tail.get();
+            long after = head.get();
+            if (before == after) return (int) Math.max(0, Math.min(currentTail - after, buffer.length));
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package io.eevee.util;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Thread safe, size bounded cache using the Window TinyLFU admission policy.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(1)
+ *   <li>Insert - O(1)
+ *   <li>Remove - O(1)
+ * </ul>
+ *
+ * <p>New entries enter a small LRU window holding 1% of the capacity. An entry leaving the window is only admitted to
+ * the main region if a {@code CountMinSketch} of recent accesses rates it as more frequent than the entry the main
+ * region would evict for it, so a scan of one-off keys passes through the window without flushing the frequently used
+ * entries. The main region is a segmented LRU, entries arrive on probation and are promoted to the protected segment,
+ * 80% of the main region, when accessed again.
+ *
+ * <p>Every operation holds the monitor of the cache.
+ *
+ * @see CountMinSketch
+ * @see LruCache
+ * @param <K> the type of the keys stored in this cache
+ * @param <V> the type of the values stored in this cache
+ */
+public class TinyLfuCache<K, V> {
+    private final HashMap<K, Node<K, V>> index;
+    private final CountMinSketch<K> sketch;
+    private final AccessOrderQueue<K, V> window;
+    private final AccessOrderQueue<K, V> probation;
+    private final AccessOrderQueue<K, V> protectedSegment;
+    private final int maxSize;
+    private final int maxWindowSize;
+    private final int maxProtectedSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    TinyLfuCache(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException();
+        this.maxSize = maxSize;
+        maxWindowSize = Math.max(1, maxSize / 100);
+        maxProtectedSize = (int) ((maxSize - maxWindowSize) * 0.8);
+        index = new HashMap<>();
+        sketch = new CountMinSketch<>(maxSize);
+        window = new AccessOrderQueue<>();
+        probation = new AccessOrderQueue<>();
+        protectedSegment = new AccessOrderQueue<>();
+    }
+
+    /**
+     * Empties the cache, the access frequencies and the hit, miss and eviction counts are kept.
+     *
+     * <p>Complexity: O(1).
+     */
+    public synchronized void clear() {
+        index.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    /**
+     * Returns the number of entries evicted or refused admission to keep the cache within its maximum size.
+     *
+     * @return number of evictions
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the value of the specified key or null if the key is not cached.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key whose value is to be returned
+     * @return the value of the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    public synchronized V get(K key) {
+        requireNonNull(key);
+        sketch.increment(key);
+        Node<K, V> node = index.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the number of calls to {@code get} which found a value.
+     *
+     * @return number of hits
+     */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of calls to {@code get} which found no value.
+     *
+     * @return number of misses
+     */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /**
+     * Associates the value with the specified key. A new key enters the window and may cause an entry to be evicted or
+     * refused admission to the main region.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key with which the value is to be associated
+     * @param value value to be associated with the key
+     * @throws NullPointerException if the specified key or value is null
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node<K, V> node = index.get(key);
+        if (node != null) {
+            node.value = value;
+            onAccess(node);
+            return;
+        }
+
+        sketch.increment(key);
+        node = new Node<K, V>(key, value);
+        index.put(key, node);
+        window.addLast(node, WINDOW);
+        if (window.size > maxWindowSize) admit(window.removeFirst());
+    }
+
+    // Moves the entry leaving the window into the main region, evicting whichever of it and the main region's victim
+    // has been seen less often when the cache is full.
+    private void admit(Node<K, V> candidate) {
+        if (index.size() <= maxSize) {
+            probation.addLast(candidate, PROBATION);
+            return;
+        }
+        AccessOrderQueue<K, V> victimQueue = (probation.size > 0) ? probation : protectedSegment;
+        Node<K, V> victim = victimQueue.first();
+        if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            victimQueue.remove(victim);
+            index.remove(victim.key);
+            probation.addLast(candidate, PROBATION);
+        } else {
+            index.remove(candidate.key);
+        }
+        evictions++;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            protectedSegment.addLast(node, PROTECTED);
+            if (protectedSegment.size > maxProtectedSize) {
+                probation.addLast(protectedSegment.removeFirst(), PROBATION);
+            }
+        } else {
+            protectedSegment.moveToLast(node);
+        }
+    }
+
+    /**
+     * Removes the key and its value from the cache if it exists.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param key key to be removed
+     * @throws NullPointerException if the specified key is null
+     */
+    public synchronized void remove(K key) {
+        requireNonNull(key);
+        Node<K, V> node = index.remove(key);
+        if (node == null) return;
+        if (node.queue == WINDOW) {
+            window.remove(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedSegment.remove(node);
+        }
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the cache
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    // Intrusive doubly linked list ordered from least to most recently used.
+    private static class AccessOrderQueue<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        int size;
+
+        void addLast(Node<K, V> node, int queue) {
+            node.queue = queue;
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+
+        Node<K, V> first() {
+            return head;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node == tail) return;
+            remove(node);
+            addLast(node, node.queue);
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        Node<K, V> removeFirst() {
+            Node<K, V> node = head;
+            remove(node);
+            return node;
+        }
+    }
+
+    private static class Node<K, V> {
+        final K key;
+        V value;
+        int queue;
+        Node<K, V> next;
+        Node<K, V> previous;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package io.eevee.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Unrolled linked list implementation of the {@code List} interface.
+ *
+ * <p>Complexity:
+ * <ul>
+ *   <li>Space - O(n)
+ *   <li>Access - O(n / c) where c is the chunk capacity
+ *   <li>Insert - O(n / c + c)
+ *   <li>Remove - O(n / c + c)
+ * </ul>
+ *
+ * <p>Each node of the list is a chunk holding an array of up to {@code CHUNK_CAPACITY} elements, so the cost of the
+ * links is shared by every element of the chunk and iteration reads elements from consecutive slots of an array
+ * rather than chasing a pointer per element. An insert into a full chunk splits it into two half full chunks, except
+ * at either end of the list where a new chunk is started so that lists built by appending are packed full. A removal
+ * which leaves a chunk under a quarter full merges it with a neighbour when the two fit within three quarters of a
+ * chunk, the gap between the thresholds stops a chunk splitting and merging on alternating changes.
+ *
+ * @see List
+ * @see LinkedList
+ * @param <E> the type of the elements stored in this collection
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+    private int chunkCount;
+    // Offset within the chunk returned by the last call to locate
+    private int locatedOffset;
+
+    private static final int CHUNK_CAPACITY = 64;
+    private static final int MERGE_THRESHOLD = CHUNK_CAPACITY / 4;
+    private static final int MERGED_MAXIMUM = CHUNK_CAPACITY * 3 / 4;
+
+    UnrolledLinkedList() {
+        clear();
+    }
+
+    // Visible and strictly available for testing
+    void assertInvarients() {
+        int count = 0;
+        int chunks = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            assert chunk.count > 0 && chunk.count <= CHUNK_CAPACITY;
+            assert chunk.next == null ? chunk == tail : chunk.next.previous == chunk;
+            count += chunk.count;
+            chunks++;
+        }
+        assert count == size && chunks == chunkCount;
+    }
+
+    /**
+     * Inserts the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n / c + c).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index > size()})
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (index == size) {
+            addLast(element);
+        } else {
+            Chunk chunk = locate(index);
+            insert(chunk, locatedOffset, element);
+        }
+    }
+
+    /**
+     * Appends the element to the end of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be appended
+     */
+    @Override
+    public void add(E element) {
+        addLast(element);
+    }
+
+    /**
+     * Inserts the element at the beginning of the list.
+     *
+     * <p>Complexity: O(c).
+     *
+     * @param element element to be inserted
+     */
+    public void addFirst(E element) {
+        if (head == null) {
+            linkAfter(new Chunk(), null);
+        }
+        insert(head, 0, element);
+    }
+
+    /**
+     * Appends the element to the end of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @param element element to be appended
+     */
+    public void addLast(E element) {
+        if (tail == null) {
+            linkAfter(new Chunk(), null);
+        }
+        insert(tail, tail.count, element);
+    }
+
+    // Visible and strictly available for testing
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Empties the list.
+     *
+     * <p>Complexity: O(1).
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns true if the specified element is in the list.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to search the list for
+     * @return true if the specified element is in the list
+     */
+    @Override
+    public boolean contains(E element) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            if (chunk.indexOf(element) >= 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n / c).
+     *
+     * @param index index of element to be retrieved
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        Chunk chunk = locate(index);
+        return (E) chunk.elements[locatedOffset];
+    }
+
+    /**
+     * Returns the first element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the first element in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public E getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return (E) head.elements[0];
+    }
+
+    /**
+     * Returns the last element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return the last element in the list
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public E getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return (E) tail.elements[tail.count - 1];
+    }
+
+    // Inserts the element at the offset within the chunk, making room first if the chunk is full.
+    private void insert(Chunk chunk, int offset, E element) {
+        if (chunk.count == CHUNK_CAPACITY) {
+            if (chunk == tail && offset == CHUNK_CAPACITY) {
+                chunk = linkAfter(new Chunk(), chunk);
+                offset = 0;
+            } else if (chunk == head && offset == 0) {
+                chunk = linkAfter(new Chunk(), null);
+            } else {
+                Chunk upper = split(chunk);
+                if (offset > chunk.count) {
+                    offset -= chunk.count;
+                    chunk = upper;
+                }
+            }
+        }
+        System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.count - offset);
+        chunk.elements[offset] = element;
+        chunk.count++;
+        size++;
+    }
+
+    /**
+     * Returns iterator of the UnrolledLinkedList.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    private class UnrolledLinkedListIterator implements Iterator<E> {
+        private Chunk chunk;
+        private int offset;
+        private int elementNum;
+
+        UnrolledLinkedListIterator() {
+            chunk = head;
+            offset = 0;
+            elementNum = 0;
+        }
+
+        public E next() {
+            if (elementNum >= size) throw new NoSuchElementException();
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            elementNum++;
+            return (E) chunk.elements[offset++];
+        }
+
+        public boolean hasNext() {
+            return elementNum < size;
+        }
+    }
+
+    // Links the chunk after the predecessor, or at the beginning of the list if the predecessor is null.
+    private Chunk linkAfter(Chunk chunk, Chunk predecessor) {
+        Chunk successor = (predecessor == null) ? head : predecessor.next;
+        chunk.previous = predecessor;
+        chunk.next = successor;
+        if (predecessor == null) {
+            head = chunk;
+        } else {
+            predecessor.next = chunk;
+        }
+        if (successor == null) {
+            tail = chunk;
+        } else {
+            successor.previous = chunk;
+        }
+        chunkCount++;
+        return chunk;
+    }
+
+    // Returns the chunk holding the index, walking from whichever end is closer, and sets locatedOffset to the offset
+    // of the index within it.
+    private Chunk locate(int index) {
+        Chunk chunk;
+        if (index < (size >>> 1)) {
+            chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            locatedOffset = index;
+        } else {
+            int fromEnd = size - 1 - index;
+            chunk = tail;
+            while (fromEnd >= chunk.count) {
+                fromEnd -= chunk.count;
+                chunk = chunk.previous;
+            }
+            locatedOffset = chunk.count - 1 - fromEnd;
+        }
+        return chunk;
+    }
+
+    // Moves the elements of the second chunk onto the end of the first and unlinks the second.
+    private void merge(Chunk first, Chunk second) {
+        System.arraycopy(second.elements, 0, first.elements, first.count, second.count);
+        first.count += second.count;
+        unlink(second);
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n / c + c).
+     *
+     * @param index index of the element to be removed
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        Chunk chunk = locate(index);
+        removeAt(chunk, locatedOffset);
+    }
+
+    /**
+     * Removes the first instance of the element in the list if it exists.
+     *
+     * <p>Complexity: O(n).
+     *
+     * @param element element to be removed
+     */
+    @Override
+    public void remove(E element) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int offset = chunk.indexOf(element);
+            if (offset >= 0) {
+                removeAt(chunk, offset);
+                return;
+            }
+        }
+    }
+
+    // Removes the element at the offset within the chunk, then unlinks the chunk if it is empty or merges it with a
+    // neighbour if it has become sparse.
+    private void removeAt(Chunk chunk, int offset) {
+        System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, chunk.count - offset - 1);
+        chunk.elements[--chunk.count] = null;
+        size--;
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.count < MERGE_THRESHOLD) {
+            if (chunk.next != null && chunk.count + chunk.next.count <= MERGED_MAXIMUM) {
+                merge(chunk, chunk.next);
+            } else if (chunk.previous != null && chunk.previous.count + chunk.count <= MERGED_MAXIMUM) {
+                merge(chunk.previous, chunk);
+            }
+        }
+    }
+
+    /**
+     * Removes the first element in the list.
+     *
+     * <p>Complexity: O(c).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        removeAt(head, 0);
+    }
+
+    /**
+     * Removes the last element in the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @throws NoSuchElementException method executed on empty list
+     */
+    public void removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        removeAt(tail, tail.count - 1);
+    }
+
+    /**
+     * Overwrites the element at the specified position in the list.
+     *
+     * <p>Complexity: O(n / c).
+     *
+     * @param index index of the element to be overwritten
+     * @param element element to be set
+     * @throws IndexOutOfBoundsException index specified is out of range ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public void set(int index, E element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        Chunk chunk = locate(index);
+        chunk.elements[locatedOffset] = element;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * <p>Complexity: O(1).
+     *
+     * @return size of the list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Moves the upper half of the full chunk into a new chunk linked after it and returns the new chunk.
+    private Chunk split(Chunk chunk) {
+        Chunk upper = linkAfter(new Chunk(), chunk);
+        int half = CHUNK_CAPACITY / 2;
+        System.arraycopy(chunk.elements, half, upper.elements, 0, CHUNK_CAPACITY - half);
+        Arrays.fill(chunk.elements, half, CHUNK_CAPACITY, null);
+        upper.count = CHUNK_CAPACITY - half;
+        chunk.count = half;
+        return upper;
+    }
+
+    private void unlink(Chunk chunk) {
+        if (chunk.previous == null) {
+            head = chunk.next;
+        } else {
+            chunk.previous.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.previous;
+        } else {
+            chunk.next.previous = chunk.previous;
+        }
+        chunkCount--;
+    }
+
+    private static class Chunk {
+        final Object[] elements;
+        int count;
+        Chunk next;
+        Chunk previous;
+
+        Chunk() {
+            elements = new Object[CHUNK_CAPACITY];
+            count = 0;
+        }
+
+        int indexOf(Object element) {
+            for (int i = 0; i < count; i++) {
+                if (elements[i].equals(element)) return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package io.eevee.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -319,4 +323,275 @@ public class ArrayListTest {
         assertEquals(true, multiElementList.contains(2));
         assertEquals(false, multiElementList.contains(3));
     }
+
+    @Test
+    public void testEditsAcrossWrappedBuffer() {
+        ArrayList<Integer> list = new ArrayList<>();
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(104729);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                list.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else {
+                list.addLast(i);
+                expected.add(i);
+            }
+        }
+        compare(list, expected.stream().mapToInt(Integer::intValue).toArray());
+
+        int index = 0;
+        for (Integer element : list) {
+            assertEquals(expected.get(index++), element);
+        }
+        assertEquals(true, list.contains(expected.get(expected.size() - 1)));
+
+        list.trimToSize();
+        assertEquals(expected.size(), list.capacity());
+        compare(list, expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    public void testContainsAfterAddFirst() {
+        multiElementList.addFirst(3);
+        multiElementList.removeLast();
+        assertEquals(true, multiElementList.contains(3));
+        assertEquals(false, multiElementList.contains(2));
+    }
+
+    @Test
+    public void testAddAllMethod() {
+        multiElementList.addAll(toList(IntStream.range(3, 15).toArray()));
+        compare(multiElementList, IntStream.range(0, 15).toArray());
+    }
+
+    @Test
+    public void testAddAllIndexMethod() {
+        atCapacityList.addAll(2, toList(IntStream.of(20,21,22).toArray()));
+        compare(atCapacityList, IntStream.of(0,1,20,21,22,2,3,4,5,6,7,8,9).toArray());
+        assertEquals(20, atCapacityList.capacity());
+
+        atCapacityList.addAll(11, toList(IntStream.of(30,31).toArray()));
+        compare(atCapacityList, IntStream.of(0,1,20,21,22,2,3,4,5,6,7,30,31,8,9).toArray());
+
+        multiElementList.addAll(1, multiElementList);
+        compare(multiElementList, IntStream.of(0,0,1,2,1,2).toArray());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.addAll(1, multiElementList);});
+    }
+
+    @Test
+    public void testRemoveRangeMethod() {
+        atCapacityList.removeRange(1, 3);
+        compare(atCapacityList, IntStream.of(0,3,4,5,6,7,8,9).toArray());
+        atCapacityList.removeRange(5, 7);
+        compare(atCapacityList, IntStream.of(0,3,4,5,6,9).toArray());
+        atCapacityList.removeRange(0, 6);
+        compare(atCapacityList, IntStream.empty().toArray());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.removeRange(2, 1);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.removeRange(0, 4);});
+    }
+
+    @Test
+    public void testRemoveIfMethod() {
+        atCapacityList.addFirst(-1);
+        assertEquals(true, atCapacityList.removeIf(element -> element % 2 == 0));
+        compare(atCapacityList, IntStream.of(-1,1,3,5,7,9).toArray());
+        assertEquals(false, atCapacityList.removeIf(element -> element > 100));
+        compare(atCapacityList, IntStream.of(-1,1,3,5,7,9).toArray());
+    }
+
+    @Test
+    public void testSortMethodOnWrappedList() {
+        ArrayList<Integer> list = toList(IntStream.of(5,3,8).toArray());
+        list.addFirst(9);
+        list.addFirst(1);
+        list.addFirst(7);
+        list.sort(null);
+        compare(list, IntStream.of(1,3,5,7,8,9).toArray());
+        list.sort(Comparator.reverseOrder());
+        compare(list, IntStream.of(9,8,7,5,3,1).toArray());
+    }
+
+    @Test
+    public void testParallelSortMethod() {
+        ArrayList<Integer> list = new ArrayList<>();
+        Random random = new Random(104729);
+        int[] values = random.ints(100000).toArray();
+        for (int i = 0; i < values.length; i++) {
+            if (i % 2 == 0) {
+                list.addFirst(values[i]);
+            } else {
+                list.addLast(values[i]);
+            }
+        }
+        list.parallelSort(null);
+        Arrays.sort(values);
+        compare(list, values);
+    }
+
+    @Test
+    public void testBinarySearchMethodOnWrappedList() {
+        ArrayList<Integer> list = toList(IntStream.of(6,8,8,10).toArray());
+        list.addFirst(4);
+        list.addFirst(2);
+        assertEquals(0, list.binarySearch(2, null));
+        assertEquals(5, list.binarySearch(10, null));
+        assertEquals(true, list.binarySearch(8, null) == 3 || list.binarySearch(8, null) == 4);
+        assertEquals(-1, list.binarySearch(1, null));
+        assertEquals(-4, list.binarySearch(7, null));
+        assertEquals(-7, list.binarySearch(11, null));
+        assertEquals(-1, emptyList.binarySearch(0, null));
+    }
+
+    @Test
+    public void testBoundMethods() {
+        ArrayList<Integer> list = toList(IntStream.of(2,4,6,8,8,10).toArray());
+        assertEquals(3, list.lowerBound(8, null));
+        assertEquals(5, list.upperBound(8, null));
+        assertEquals(3, list.lowerBound(7, null));
+        assertEquals(3, list.upperBound(7, null));
+        assertEquals(0, list.lowerBound(0, null));
+        assertEquals(6, list.upperBound(10, null));
+
+        ArrayList<Integer> descending = toList(IntStream.of(10,8,8,6).toArray());
+        assertEquals(1, descending.lowerBound(8, Comparator.reverseOrder()));
+        assertEquals(3, descending.upperBound(8, Comparator.reverseOrder()));
+    }
+
+    @Test
+    public void testInsertSortedMethod() {
+        ArrayList<Integer> list = new ArrayList<>();
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(104729);
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(100);
+            list.insertSorted(value);
+            expected.add(value);
+        }
+        expected.sort(null);
+        compare(list, expected.stream().mapToInt(Integer::intValue).toArray());
+
+        ArrayList<String> strings = new ArrayList<>();
+        strings.insertSorted("bb", Comparator.comparing(String::length));
+        strings.insertSorted("a", Comparator.comparing(String::length));
+        strings.insertSorted("cc", Comparator.comparing(String::length));
+        assertEquals("a", strings.get(0));
+        assertEquals("bb", strings.get(1));
+        assertEquals("cc", strings.get(2));
+    }
+
+    @Test
+    public void testToArrayMethodOnWrappedList() {
+        multiElementList.addFirst(-1);
+        assertArrayEquals(new Object[] {-1, 0, 1, 2}, multiElementList.toArray());
+        assertArrayEquals(new Object[0], emptyList.toArray());
+    }
+
+    @Test
+    public void testGrowthPolicies() {
+        ArrayList<Integer> stepped = new ArrayList<>(GrowthPolicy.step(5));
+        for (int i = 0; i < 16; i++) {
+            stepped.add(i);
+        }
+        assertEquals(20, stepped.capacity());
+        assertEquals(4, stepped.unusedCapacity());
+
+        ArrayList<Integer> factored = new ArrayList<>(GrowthPolicy.factor(1.5));
+        for (int i = 0; i < 16; i++) {
+            factored.add(i);
+        }
+        assertEquals(22, factored.capacity());
+
+        ArrayList<Integer> capped = new ArrayList<>(GrowthPolicy.DEFAULT.withMaximumCapacity(15));
+        for (int i = 0; i < 15; i++) {
+            capped.add(i);
+        }
+        assertEquals(15, capped.capacity());
+        assertThrows(IllegalStateException.class, () -> {capped.add(15);});
+
+        assertThrows(IllegalArgumentException.class, () -> {GrowthPolicy.factor(1.0);});
+        assertThrows(IllegalArgumentException.class, () -> {GrowthPolicy.step(0);});
+    }
+
+    @Test
+    public void testShrinkingGrowthPolicy() {
+        ArrayList<Integer> list = new ArrayList<>(GrowthPolicy.DEFAULT.withShrinking());
+        for (int i = 0; i < 160; i++) {
+            list.addLast(i);
+        }
+        assertEquals(160, list.capacity());
+        list.removeRange(0, 100);
+        assertEquals(160, list.capacity());
+        // Falling to a quarter full halves the capacity, leaving the list half full
+        list.removeRange(0, 20);
+        assertEquals(80, list.capacity());
+        list.removeIf(element -> element % 2 == 0);
+        assertEquals(40, list.capacity());
+        while (list.size() > 0) {
+            list.removeFirst();
+        }
+        assertEquals(10, list.capacity());
+        assertEquals(160, list.peakCapacity());
+        assertEquals(10, list.unusedCapacity());
+
+        // The default policy keeps its capacity until trimmed
+        for (int i = 0; i < 12; i++) {
+            multiElementList.addLast(i);
+        }
+        multiElementList.removeRange(0, 14);
+        assertEquals(20, multiElementList.capacity());
+    }
+
+    @Test
+    public void testShrinkingGrowthPolicyAfterBulkRemoval() {
+        ArrayList<Integer> list = new ArrayList<>(GrowthPolicy.DEFAULT.withShrinking());
+        for (int i = 0; i < 1000000; i++) {
+            list.addLast(i);
+        }
+        // A single bulk removal shrinks as far as a run of single removals would
+        list.removeRange(0, 999990);
+        assertEquals(10, list.size());
+        assertEquals(20, list.capacity());
+        compare(list, IntStream.range(999990, 1000000).toArray());
+
+        for (int i = 0; i < 1000; i++) {
+            list.addLast(i);
+        }
+        list.removeIf(element -> element >= 5);
+        assertEquals(5, list.size());
+        assertEquals(10, list.capacity());
+    }
+
+    @Test
+    public void testMaximumCapacityBelowDefaultCapacity() {
+        ArrayList<Integer> capped = new ArrayList<>(GrowthPolicy.DEFAULT.withMaximumCapacity(7));
+        assertEquals(7, capped.capacity());
+        capped.ensureCapacity(100);
+        assertEquals(7, capped.capacity());
+        for (int i = 0; i < 7; i++) {
+            capped.addLast(i);
+        }
+        assertThrows(IllegalStateException.class, () -> {capped.addLast(7);});
+        capped.clear();
+        assertEquals(7, capped.capacity());
+
+        ArrayList<Integer> shrinking = new ArrayList<>(GrowthPolicy.step(2).withMaximumCapacity(7).withShrinking());
+        for (int i = 0; i < 7; i++) {
+            shrinking.addLast(i);
+        }
+        shrinking.removeRange(0, 6);
+        assertEquals(7, shrinking.capacity());
+        compare(shrinking, IntStream.of(6).toArray());
+    }
 }
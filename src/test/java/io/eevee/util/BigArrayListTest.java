@@ -0,0 +1,120 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the BigArrayList class.
+ */
+public class BigArrayListTest {
+
+    private BigArrayList<Integer> emptyList;
+    private BigArrayList<Integer> multiSegmentList;
+
+    @BeforeEach
+    public void setup() {
+        emptyList = new BigArrayList<>(2);
+        multiSegmentList = new BigArrayList<>(2);
+        for (int i = 0; i < 10; i++) {
+            multiSegmentList.add(i);
+        }
+    }
+
+    private void compare(BigArrayList<Integer> list, int count) {
+        assertEquals(count, list.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, list.get(i));
+        }
+        int expected = 0;
+        for (Integer element : list) {
+            assertEquals(expected++, element);
+        }
+        assertEquals(count, expected);
+    }
+
+    @Test
+    public void testAddMethod() {
+        compare(multiSegmentList, 10);
+        assertEquals(12, multiSegmentList.capacity());
+        for (int i = 10; i < 1000; i++) {
+            multiSegmentList.add(i);
+        }
+        compare(multiSegmentList, 1000);
+        assertEquals(1000, multiSegmentList.capacity());
+    }
+
+    @Test
+    public void testGetAndSetMethods() {
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.get(0);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiSegmentList.get(-1);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiSegmentList.get(10);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiSegmentList.set(10, 0);});
+        multiSegmentList.set(4, 40);
+        assertEquals(40, multiSegmentList.get(4));
+        assertEquals(0, multiSegmentList.getFirst());
+        assertEquals(9, multiSegmentList.getLast());
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getFirst();});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getLast();});
+    }
+
+    @Test
+    public void testRemoveLastAndTrimToSizeMethods() {
+        assertThrows(NoSuchElementException.class, () -> {emptyList.removeLast();});
+        for (int i = 0; i < 5; i++) {
+            multiSegmentList.removeLast();
+        }
+        compare(multiSegmentList, 5);
+        assertEquals(12, multiSegmentList.capacity());
+        multiSegmentList.trimToSize();
+        assertEquals(8, multiSegmentList.capacity());
+        for (int i = 5; i < 20; i++) {
+            multiSegmentList.add(i);
+        }
+        compare(multiSegmentList, 20);
+    }
+
+    @Test
+    public void testClearAndContainsMethods() {
+        assertTrue(multiSegmentList.contains(9));
+        assertFalse(multiSegmentList.contains(10));
+        multiSegmentList.add(null);
+        assertTrue(multiSegmentList.contains(null));
+        multiSegmentList.clear();
+        assertEquals(0, multiSegmentList.size());
+        assertEquals(0, multiSegmentList.capacity());
+        assertFalse(multiSegmentList.contains(0));
+    }
+
+    @Test
+    public void testIteratorAndForEachMethods() {
+        Iterator<Integer> iterator = emptyList.iterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+
+        long[] sum = new long[1];
+        multiSegmentList.forEach(element -> sum[0] += element);
+        assertEquals(45, sum[0]);
+    }
+
+    @Test
+    public void testLongIndexes() {
+        // Segments of 2^30 references would exhaust the test heap, so a list with one element per segment checks that
+        // an index beyond the range of an int still resolves to its segment and offset.
+        BigArrayList<Long> list = new BigArrayList<>(0);
+        for (long i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100L, list.size());
+        assertEquals(99L, list.get(99L));
+        assertThrows(IndexOutOfBoundsException.class, () -> {list.get((1L << 32) + 1);});
+    }
+}
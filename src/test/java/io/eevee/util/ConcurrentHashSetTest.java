@@ -0,0 +1,180 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Integer;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the ConcurrentHashSet class.
+ */
+public class ConcurrentHashSetTest {
+
+    private ConcurrentHashSet<Integer> emptySet;
+    private ConcurrentHashSet<Integer> multiElementSet;
+
+    @BeforeEach
+    public void setup() {
+        emptySet = toSet(IntStream.empty().toArray());
+        multiElementSet = toSet(IntStream.of(0,1,2).toArray());
+    }
+
+    private ConcurrentHashSet<Integer> toSet(int[] array) {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>();
+        for (int i : array) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    private void compare(ConcurrentHashSet<Integer> set, int[] array) {
+        assertEquals(array.length, set.size());
+        for (int i : array) {
+            assertEquals(true, set.contains(i));
+        }
+    }
+
+    @Test
+    public void testSizeMethod() {
+        assertEquals(0, emptySet.size());
+        assertEquals(3, multiElementSet.size());
+    }
+
+    @Test
+    public void testContainsMethod() {
+        assertEquals(false, emptySet.contains(0));
+        assertEquals(true, multiElementSet.contains(0));
+        assertEquals(true, multiElementSet.contains(1));
+        assertEquals(true, multiElementSet.contains(2));
+        assertEquals(false, multiElementSet.contains(3));
+        assertThrows(NullPointerException.class, () -> {multiElementSet.contains(null);});
+    }
+
+    @Test
+    public void testAddMethodOnDuplicate() {
+        multiElementSet.add(0);
+        multiElementSet.add(1);
+        compare(multiElementSet, IntStream.of(0,1,2).toArray());
+    }
+
+    @Test
+    public void testAddMethodOnNegativeHashCodes() {
+        emptySet.add(-1);
+        emptySet.add(Integer.MIN_VALUE);
+        compare(emptySet, IntStream.of(-1,Integer.MIN_VALUE).toArray());
+    }
+
+    @Test
+    public void testSetGrowsToFitNewElements() {
+        assertEquals(64, emptySet.capacity());
+        for (int i = 0; i < 1000; i++) {
+            emptySet.add(i);
+        }
+        assertTrue(emptySet.capacity() > 1000);
+        compare(emptySet, IntStream.range(0, 1000).toArray());
+    }
+
+    @Test
+    public void testClearMethod() {
+        multiElementSet.clear();
+        assertEquals(0, multiElementSet.size());
+        assertEquals(false, multiElementSet.contains(0));
+    }
+
+    @Test
+    public void testIterable() {
+        ConcurrentHashSet<Integer> comparisonSet = toSet(IntStream.of(0,1,2).toArray());
+        for (Integer element : multiElementSet) {
+            comparisonSet.remove(element);
+        }
+        assertEquals(0, comparisonSet.size());
+        assertFalse(emptySet.iterator().hasNext());
+    }
+
+    @Test
+    public void testRemoveObjectMethod() {
+        multiElementSet.remove(1);
+        compare(multiElementSet, IntStream.of(0,2).toArray());
+        assertEquals(false, multiElementSet.contains(1));
+
+        multiElementSet.remove(1);
+        compare(multiElementSet, IntStream.of(0,2).toArray());
+    }
+
+    @Test
+    public void testConcurrentAddAndRemove() throws InterruptedException {
+        int threads = 8;
+        int elementsPerThread = 10000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t * elementsPerThread;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = offset; i < offset + elementsPerThread; i++) {
+                    emptySet.add(i);
+                }
+                for (int i = offset; i < offset + elementsPerThread; i += 2) {
+                    emptySet.remove(i);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * elementsPerThread / 2, emptySet.size());
+        for (int i = 0; i < threads * elementsPerThread; i++) {
+            assertEquals(i % 2 == 1, emptySet.contains(i));
+        }
+    }
+
+    @Test
+    public void testCollidingElements() {
+        ConcurrentHashSet<CollidingKey> set = new ConcurrentHashSet<>();
+        for (int i = 0; i < 30000; i++) {
+            set.add(new CollidingKey(i));
+        }
+        assertEquals(30000, set.size());
+        // Growth follows the total count, not the one stripe every element lands in
+        assertTrue(set.capacity() <= 65536);
+        // Removing from deep in one long chain copies the prefix without recursing
+        set.remove(new CollidingKey(0));
+        set.remove(new CollidingKey(29999));
+        assertEquals(29998, set.size());
+        assertFalse(set.contains(new CollidingKey(0)));
+        assertTrue(set.contains(new CollidingKey(1)));
+        assertTrue(set.contains(new CollidingKey(29998)));
+    }
+
+    private static class CollidingKey {
+        private final int value;
+
+        CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof CollidingKey) && ((CollidingKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the ConcurrentLinkedQueue class.
+ */
+public class ConcurrentLinkedQueueTest {
+
+    private ConcurrentLinkedQueue<Integer> queue;
+
+    @BeforeEach
+    public void setup() {
+        queue = new ConcurrentLinkedQueue<>();
+    }
+
+    @Test
+    public void testOfferPeekAndPollMethods() {
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertTrue(queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> {queue.offer(null);});
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(100, queue.size());
+        assertFalse(queue.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+        queue.offer(100);
+        assertEquals(100, queue.peek());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testDrainToMethod() {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        AtomicInteger expected = new AtomicInteger(0);
+        assertEquals(3, queue.drainTo(element -> assertEquals(expected.getAndIncrement(), element), 3));
+        assertEquals(2, queue.drainTo(element -> assertEquals(expected.getAndIncrement(), element), 10));
+        assertEquals(0, queue.drainTo(element -> {}, 10));
+    }
+
+    @Test
+    public void testIterator() {
+        assertFalse(queue.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> {queue.iterator().next();});
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        Iterator<Integer> iterator = queue.iterator();
+        assertEquals(0, iterator.next());
+        assertEquals(1, iterator.next());
+        // The iterator sits on a node which is then removed, it carries on from the head without repeating elements
+        queue.poll();
+        queue.poll();
+        queue.poll();
+        queue.offer(5);
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertEquals(4, iterator.next());
+        assertEquals(5, iterator.next());
+        assertFalse(iterator.hasNext());
+        queue.offer(6);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> sharedQueue = new ConcurrentLinkedQueue<>();
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 50000;
+        int total = producers * elementsPerProducer;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger consumed = new AtomicInteger(0);
+        AtomicLong sum = new AtomicLong(0);
+        boolean[] seen = new boolean[total];
+        // Each consumer sees the elements of each producer in the order they were offered
+        boolean[] ordered = new boolean[] {true};
+        Thread[] workers = new Thread[producers + consumers + 1];
+        for (int t = 0; t < producers; t++) {
+            int offset = t * elementsPerProducer;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = offset; i < offset + elementsPerProducer; i++) {
+                    sharedQueue.offer(i);
+                }
+            });
+        }
+        for (int t = producers; t < producers + consumers; t++) {
+            workers[t] = new Thread(() -> {
+                int[] lastSeen = new int[producers];
+                java.util.Arrays.fill(lastSeen, -1);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (consumed.get() < total) {
+                    Integer element = sharedQueue.poll();
+                    if (element == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    int producer = element / elementsPerProducer;
+                    synchronized (seen) {
+                        seen[element] = true;
+                        if (element <= lastSeen[producer]) ordered[0] = false;
+                    }
+                    lastSeen[producer] = element;
+                    sum.addAndGet(element);
+                    consumed.incrementAndGet();
+                }
+            });
+        }
+        // Iterates while the queue changes, which must never fail or return an element twice in one pass
+        boolean[] consistent = new boolean[] {true};
+        workers[producers + consumers] = new Thread(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            while (consumed.get() < total) {
+                int[] lastSeen = new int[producers];
+                java.util.Arrays.fill(lastSeen, -1);
+                for (Integer element : sharedQueue) {
+                    int producer = element / elementsPerProducer;
+                    if (element <= lastSeen[producer]) consistent[0] = false;
+                    lastSeen[producer] = element;
+                }
+            }
+        });
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(total, consumed.get());
+        assertEquals((long) total * (total - 1) / 2, sum.get());
+        for (boolean element : seen) {
+            assertTrue(element);
+        }
+        assertTrue(ordered[0]);
+        assertTrue(consistent[0]);
+        assertTrue(sharedQueue.isEmpty());
+    }
+}
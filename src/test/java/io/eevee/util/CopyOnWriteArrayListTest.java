@@ -0,0 +1,150 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the CopyOnWriteArrayList class.
+ */
+public class CopyOnWriteArrayListTest {
+
+    private CopyOnWriteArrayList<Integer> emptyList;
+    private CopyOnWriteArrayList<Integer> multiElementList;
+
+    @BeforeEach
+    public void setup() {
+        emptyList = toList(IntStream.empty().toArray());
+        multiElementList = toList(IntStream.range(0, 3).toArray());
+    }
+
+    private CopyOnWriteArrayList<Integer> toList(int[] array) {
+        CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+        for (int i : array) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private void compare(CopyOnWriteArrayList<Integer> list, int[] array) {
+        assertEquals(array.length, list.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], list.get(i));
+        }
+        assertArrayEquals(IntStream.of(array).boxed().toArray(), list.toArray());
+    }
+
+    @Test
+    public void testAddMethods() {
+        multiElementList.add(0, 5);
+        multiElementList.add(2, 6);
+        multiElementList.add(7);
+        compare(multiElementList, IntStream.of(5,0,6,1,2,7).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.add(1, 0);});
+    }
+
+    @Test
+    public void testGetAndSetMethods() {
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.get(0);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.set(3, 0);});
+        multiElementList.set(1, 4);
+        compare(multiElementList, IntStream.of(0,4,2).toArray());
+    }
+
+    @Test
+    public void testRemoveMethods() {
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.remove(0);});
+        multiElementList.remove(Integer.valueOf(1));
+        multiElementList.remove(Integer.valueOf(5));
+        compare(multiElementList, IntStream.of(0,2).toArray());
+        multiElementList.remove(0);
+        compare(multiElementList, IntStream.of(2).toArray());
+        multiElementList.clear();
+        compare(multiElementList, IntStream.empty().toArray());
+    }
+
+    @Test
+    public void testContainsMethod() {
+        assertFalse(emptyList.contains(0));
+        assertTrue(multiElementList.contains(2));
+        assertFalse(multiElementList.contains(3));
+    }
+
+    @Test
+    public void testEditMethod() {
+        multiElementList.edit(list -> {
+            list.addFirst(-1);
+            list.removeLast();
+            list.add(10);
+            list.sort(null);
+        });
+        compare(multiElementList, IntStream.of(-1,0,1,10).toArray());
+    }
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        Iterator<Integer> iterator = multiElementList.iterator();
+        multiElementList.clear();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+    }
+
+    @Test
+    public void testReadersNeverSeePartialEdits() throws InterruptedException {
+        int readers = 4;
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicBoolean torn = new AtomicBoolean(false);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[readers];
+        for (int t = 0; t < readers; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (!stop.get()) {
+                    // Every edit appends a value and its negation, so a snapshot must always hold pairs
+                    int sum = 0;
+                    int count = 0;
+                    for (Integer element : emptyList) {
+                        sum += element;
+                        count++;
+                    }
+                    if (sum != 0 || count % 2 != 0) torn.set(true);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (int i = 1; i <= 2000; i++) {
+            int value = i;
+            emptyList.edit(list -> {
+                list.add(value);
+                list.add(-value);
+            });
+        }
+        stop.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertFalse(torn.get());
+        assertEquals(4000, emptyList.size());
+    }
+}
@@ -0,0 +1,50 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Integer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the CountMinSketch class.
+ */
+public class CountMinSketchTest {
+
+    @Test
+    public void testFrequencyIsNeverUnderestimated() {
+        CountMinSketch<Integer> sketch = new CountMinSketch<>(1000);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < i % 10; j++) {
+                sketch.increment(i);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(sketch.frequency(i) >= i % 10);
+        }
+        assertThrows(NullPointerException.class, () -> {sketch.frequency(null);});
+    }
+
+    @Test
+    public void testFrequencySaturates() {
+        CountMinSketch<Integer> sketch = new CountMinSketch<>(1000);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(7);
+        }
+        assertEquals(15, sketch.frequency(7));
+        assertEquals(0, sketch.frequency(8));
+    }
+
+    @Test
+    public void testCountersAreHalvedOnceSampleSizeIsReached() {
+        CountMinSketch<Integer> sketch = new CountMinSketch<>(1);
+        for (int i = 0; i < 9; i++) {
+            sketch.increment(7);
+        }
+        assertEquals(9, sketch.frequency(7));
+        sketch.increment(7);
+        assertEquals(5, sketch.frequency(7));
+    }
+}
@@ -0,0 +1,87 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the DoubleArrayList class.
+ */
+public class DoubleArrayListTest {
+
+    private DoubleArrayList list;
+
+    @BeforeEach
+    public void setup() {
+        list = new DoubleArrayList();
+        list.addAll(new double[]{0.5, 1.5, 2.5});
+    }
+
+    @Test
+    public void testAddAndRemoveMethods() {
+        list.addFirst(-0.5);
+        list.add(2, 1.0);
+        list.removeLast();
+        assertEquals(-0.5, list.getFirst());
+        assertEquals(1.5, list.getLast());
+        assertArrayEquals(new double[]{-0.5, 0.5, 1.0, 1.5}, list.toArray());
+    }
+
+    @Test
+    public void testContainsMethodMatchesDoubleEquals() {
+        list.addLast(Double.NaN);
+        assertEquals(true, list.contains(Double.NaN));
+        assertEquals(true, list.contains(1.5));
+        assertEquals(false, list.contains(-1.5));
+    }
+
+    @Test
+    public void testForEachMethod() {
+        double[] sum = new double[1];
+        list.forEach(value -> sum[0] += value);
+        assertEquals(4.5, sum[0]);
+    }
+
+    @Test
+    public void testClearMethod() {
+        list.clear();
+        assertEquals(0, list.size());
+        assertThrows(NoSuchElementException.class, () -> {list.getLast();});
+    }
+
+    @Test
+    public void testSortMethods() {
+        DoubleArrayList other = new DoubleArrayList();
+        other.addAll(new double[]{3.5, -1.0, 2.0});
+        other.addFirst(10);
+        other.sort();
+        assertArrayEquals(new double[]{-1.0, 2.0, 3.5, 10.0}, other.toArray());
+        other.addFirst(-5);
+        other.parallelSort();
+        assertArrayEquals(new double[]{-5.0, -1.0, 2.0, 3.5, 10.0}, other.toArray());
+    }
+
+    @Test
+    public void testGrowthStopsAtMaximumCapacity() {
+        DoubleArrayList capped = new DoubleArrayList(25);
+        for (int i = 0; i < 20; i++) {
+            capped.addLast(1.0);
+        }
+        assertEquals(20, capped.capacity());
+        // Doubling would pass the maximum, so the list grows only as far as it
+        capped.addAll(new double[]{1.0, 2.0});
+        assertEquals(25, capped.capacity());
+        capped.addAll(new double[]{4.0, 5.0, 6.0});
+        assertEquals(25, capped.size());
+        assertThrows(IllegalStateException.class, () -> {capped.addLast(1.0);});
+        assertThrows(IllegalStateException.class, () -> {capped.addAll(new double[]{1.0, 2.0});});
+        assertEquals(25, capped.size());
+        capped.ensureCapacity(100);
+        assertEquals(25, capped.capacity());
+    }
+}
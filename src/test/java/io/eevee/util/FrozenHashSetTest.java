@@ -0,0 +1,69 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the FrozenHashSet class.
+ */
+public class FrozenHashSetTest {
+
+    private FrozenHashSet<Integer> toFrozenSet(int from, int to) {
+        HashSet<Integer> set = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            set.add(i);
+        }
+        return set.freeze();
+    }
+
+    @Test
+    public void testContainsMethod() {
+        FrozenHashSet<Integer> set = toFrozenSet(-500, 500);
+        assertEquals(1000, set.size());
+        for (int i = -1000; i < 1000; i++) {
+            assertEquals(-500 <= i && i < 500, set.contains(i));
+        }
+        assertFalse(toFrozenSet(0, 0).contains(0));
+    }
+
+    @Test
+    public void testCapacity() {
+        assertEquals(2, toFrozenSet(0, 0).capacity());
+        assertEquals(4, toFrozenSet(0, 3).capacity());
+        assertEquals(8, toFrozenSet(0, 4).capacity());
+        // A HashSet of 1000 elements holds a 2048 bucket table, the frozen table is the smallest at most 3/4 full
+        assertEquals(2048, toFrozenSet(0, 1000).capacity());
+        assertEquals(1024, toFrozenSet(0, 768).capacity());
+    }
+
+    @Test
+    public void testIteratorMethod() {
+        FrozenHashSet<Integer> set = toFrozenSet(0, 100);
+        boolean[] seen = new boolean[100];
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            assertFalse(seen[element]);
+            seen[element] = true;
+        }
+        for (boolean element : seen) {
+            assertTrue(element);
+        }
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+    }
+
+    @Test
+    public void testModificationUnsupported() {
+        FrozenHashSet<Integer> set = toFrozenSet(0, 3);
+        assertThrows(UnsupportedOperationException.class, () -> {set.add(4);});
+        assertThrows(UnsupportedOperationException.class, () -> {set.remove(0);});
+        assertThrows(UnsupportedOperationException.class, () -> {set.clear();});
+    }
+}
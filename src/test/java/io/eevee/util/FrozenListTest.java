@@ -0,0 +1,75 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the FrozenList class.
+ */
+public class FrozenListTest {
+
+    private ArrayList<Integer> source;
+    private FrozenList<Integer> frozenList;
+
+    @BeforeEach
+    public void setup() {
+        source = new ArrayList<>();
+        for (int i = 1; i < 4; i++) {
+            source.addLast(i);
+        }
+        // Wraps the source around the end of its array, the frozen copy must still be in order
+        source.addFirst(0);
+        frozenList = source.freeze();
+    }
+
+    @Test
+    public void testGetMethod() {
+        assertEquals(4, frozenList.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, frozenList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> {frozenList.get(4);});
+        assertArrayEquals(new Object[] {0, 1, 2, 3}, frozenList.toArray());
+    }
+
+    @Test
+    public void testContainsAndIteratorMethods() {
+        assertTrue(frozenList.contains(3));
+        assertFalse(frozenList.contains(4));
+        Iterator<Integer> iterator = frozenList.iterator();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+    }
+
+    @Test
+    public void testIsIndependentOfSource() {
+        source.set(0, 9);
+        source.clear();
+        assertEquals(0, frozenList.get(0));
+        assertEquals(4, frozenList.size());
+        assertEquals(0, new ArrayList<Integer>().freeze().size());
+    }
+
+    @Test
+    public void testModificationUnsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> {frozenList.add(4);});
+        assertThrows(UnsupportedOperationException.class, () -> {frozenList.add(0, 4);});
+        assertThrows(UnsupportedOperationException.class, () -> {frozenList.set(0, 4);});
+        assertThrows(UnsupportedOperationException.class, () -> {frozenList.remove(0);});
+        assertThrows(UnsupportedOperationException.class, () -> {frozenList.remove(Integer.valueOf(0));});
+        assertThrows(UnsupportedOperationException.class, () -> {frozenList.clear();});
+    }
+}
@@ -0,0 +1,76 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the FrozenSortedSet class.
+ */
+public class FrozenSortedSetTest {
+
+    private FrozenSortedSet<Integer> emptySet;
+    private FrozenSortedSet<Integer> multiElementSet;
+
+    @BeforeEach
+    public void setup() {
+        emptySet = new LinkedBinaryTree<Integer>().freeze();
+        LinkedBinaryTree<Integer> tree = new LinkedBinaryTree<>();
+        for (int i : new int[] {8, 2, 6, 0, 4}) {
+            tree.add(i);
+        }
+        multiElementSet = tree.freeze();
+    }
+
+    @Test
+    public void testGetMethods() {
+        assertEquals(5, multiElementSet.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(2 * i, multiElementSet.get(i));
+        }
+        assertEquals(0, multiElementSet.getFirst());
+        assertEquals(8, multiElementSet.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementSet.get(5);});
+        assertThrows(NoSuchElementException.class, () -> {emptySet.getFirst();});
+        assertThrows(NoSuchElementException.class, () -> {emptySet.getLast();});
+    }
+
+    @Test
+    public void testContainsAndIndexOfMethods() {
+        for (int i = -1; i < 10; i++) {
+            assertEquals(i >= 0 && i % 2 == 0, multiElementSet.contains(i));
+        }
+        assertEquals(3, multiElementSet.indexOf(6));
+        assertEquals(-3, multiElementSet.indexOf(3));
+        assertEquals(-6, multiElementSet.indexOf(9));
+        assertFalse(emptySet.contains(0));
+        assertThrows(NullPointerException.class, () -> {multiElementSet.contains(null);});
+    }
+
+    @Test
+    public void testIteratorMethod() {
+        Iterator<Integer> iterator = multiElementSet.iterator();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(2 * i, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+        assertFalse(emptySet.iterator().hasNext());
+    }
+
+    @Test
+    public void testModificationUnsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> {multiElementSet.add(1);});
+        assertThrows(UnsupportedOperationException.class, () -> {multiElementSet.remove(0);});
+        assertThrows(UnsupportedOperationException.class, () -> {multiElementSet.clear();});
+    }
+}
@@ -0,0 +1,116 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Integer;
+import java.lang.String;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the HashMap class.
+ */
+public class HashMapTest {
+
+    private HashMap<Integer, String> emptyMap;
+    private HashMap<Integer, String> multiElementMap;
+
+    @BeforeEach
+    public void setup() {
+        emptyMap = new HashMap<>();
+        multiElementMap = new HashMap<>();
+        multiElementMap.put(0, "zero");
+        multiElementMap.put(1, "one");
+        multiElementMap.put(2, "two");
+    }
+
+    @Test
+    public void testSizeMethod() {
+        assertEquals(0, emptyMap.size());
+        assertEquals(3, multiElementMap.size());
+    }
+
+    @Test
+    public void testGetMethod() {
+        assertNull(emptyMap.get(0));
+        assertEquals("zero", multiElementMap.get(0));
+        assertEquals("one", multiElementMap.get(1));
+        assertEquals("two", multiElementMap.get(2));
+        assertNull(multiElementMap.get(3));
+        assertThrows(NullPointerException.class, () -> {multiElementMap.get(null);});
+    }
+
+    @Test
+    public void testPutMethodReplacesValue() {
+        assertEquals("one", multiElementMap.put(1, "uno"));
+        assertEquals("uno", multiElementMap.get(1));
+        assertEquals(3, multiElementMap.size());
+        assertNull(multiElementMap.put(-1, "minus one"));
+        assertEquals("minus one", multiElementMap.get(-1));
+    }
+
+    @Test
+    public void testComputeIfAbsentMethod() {
+        assertEquals("zero", multiElementMap.computeIfAbsent(0, key -> "unused"));
+        assertEquals("3", multiElementMap.computeIfAbsent(3, String::valueOf));
+        assertEquals(4, multiElementMap.size());
+        assertNull(multiElementMap.computeIfAbsent(4, key -> null));
+        assertEquals(false, multiElementMap.containsKey(4));
+    }
+
+    @Test
+    public void testRemoveMethod() {
+        assertEquals("one", multiElementMap.remove(1));
+        assertNull(multiElementMap.remove(1));
+        assertEquals(2, multiElementMap.size());
+        assertEquals(false, multiElementMap.containsKey(1));
+        assertEquals(true, multiElementMap.containsKey(0));
+        assertEquals(true, multiElementMap.containsKey(2));
+    }
+
+    @Test
+    public void testRemoveMethodKeepsProbeRunsReachable() {
+        // Keys which are multiples of the capacity all collide on the same slot
+        HashMap<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            map.put(i * 1024, String.valueOf(i));
+        }
+        for (int i = 0; i < 8; i += 2) {
+            map.remove(i * 1024);
+        }
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i % 2 == 1 ? String.valueOf(i) : null, map.get(i * 1024));
+        }
+    }
+
+    @Test
+    public void testMapGrowsToFitNewElements() {
+        assertEquals(16, emptyMap.capacity());
+        for (int i = 0; i < 1000; i++) {
+            emptyMap.put(i, String.valueOf(i));
+        }
+        assertEquals(1000, emptyMap.size());
+        assertTrue(emptyMap.capacity() >= 1024);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.valueOf(i), emptyMap.get(i));
+        }
+    }
+
+    @Test
+    public void testClearMethod() {
+        multiElementMap.clear();
+        assertEquals(0, multiElementMap.size());
+        assertNull(multiElementMap.get(0));
+    }
+
+    @Test
+    public void testForEachMethod() {
+        int[] sum = new int[1];
+        multiElementMap.forEach((key, value) -> sum[0] += key);
+        assertEquals(3, sum[0]);
+    }
+}
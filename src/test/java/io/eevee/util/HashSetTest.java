@@ -112,4 +112,241 @@ public class HashSetTest {
         multiElementSet.remove(1);
         compare(multiElementSet, IntStream.of(0,2).toArray());
     }
+
+    @Test
+    public void testAddMethodOnNegativeHashCodes() {
+        emptySet.add(-1);
+        emptySet.add(Integer.MIN_VALUE);
+        compare(emptySet, IntStream.of(-1,Integer.MIN_VALUE).toArray());
+    }
+
+    @Test
+    public void testSetGrowsToFitNewElements() {
+        HashSet<Integer> set = toSet(IntStream.range(0, 1000).toArray());
+        compare(set, IntStream.range(0, 1000).toArray());
+        assertEquals(false, set.contains(1000));
+    }
+
+    @Test
+    public void testCollidingBucketIsTreeifiedAndUntreeified() {
+        HashSet<CollidingKey> set = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(new CollidingKey(i));
+        }
+        assertEquals(100, set.size());
+        assertEquals(true, set.isTreeified(new CollidingKey(0)));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(true, set.contains(new CollidingKey(i)));
+        }
+        assertEquals(false, set.contains(new CollidingKey(100)));
+
+        int count = 0;
+        for (CollidingKey key : set) {
+            count++;
+        }
+        assertEquals(100, count);
+
+        for (int i = 0; i < 95; i++) {
+            set.remove(new CollidingKey(i));
+        }
+        assertEquals(5, set.size());
+        assertEquals(false, set.isTreeified(new CollidingKey(0)));
+        for (int i = 95; i < 100; i++) {
+            assertEquals(true, set.contains(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void testOrderingInconsistentWithEqualsIsNotTreeified() {
+        HashSet<HalfOrderedKey> set = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            set.add(new HalfOrderedKey(i));
+        }
+        assertEquals(20, set.size());
+        assertEquals(false, set.isTreeified(new HalfOrderedKey(0)));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(true, set.contains(new HalfOrderedKey(i)));
+        }
+        int count = 0;
+        for (HalfOrderedKey key : set) {
+            count++;
+        }
+        assertEquals(20, count);
+    }
+
+    @Test
+    public void testTreeifiedBucketFallsBackToListOnUnorderableElement() {
+        HashSet<HalfOrderedKey> set = new HashSet<>();
+        for (int i = 0; i < 40; i += 2) {
+            set.add(new HalfOrderedKey(i));
+        }
+        assertEquals(true, set.isTreeified(new HalfOrderedKey(0)));
+        // Orders equally to an element of the tree without being equal to it
+        assertEquals(false, set.contains(new HalfOrderedKey(1)));
+        set.add(new HalfOrderedKey(1));
+        assertEquals(false, set.isTreeified(new HalfOrderedKey(0)));
+        assertEquals(21, set.size());
+        assertEquals(true, set.contains(new HalfOrderedKey(0)));
+        assertEquals(true, set.contains(new HalfOrderedKey(1)));
+        set.remove(new HalfOrderedKey(0));
+        assertEquals(false, set.contains(new HalfOrderedKey(0)));
+        assertEquals(true, set.contains(new HalfOrderedKey(1)));
+        assertEquals(20, set.size());
+    }
+
+    @Test
+    public void testUntreeifiableBucketIsNotResortedOnEveryAdd() {
+        HashSet<UnorderedKey> set = new HashSet<>();
+        int[] comparisons = new int[1];
+        for (int i = 0; i < 2000; i++) {
+            set.add(new UnorderedKey(i, comparisons));
+        }
+        assertEquals(2000, set.size());
+        assertEquals(false, set.isTreeified(new UnorderedKey(0, comparisons)));
+        // Sorting the chain on every add past the threshold would take around two million comparisons
+        assertEquals(true, comparisons[0] < 20000);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(true, set.contains(new UnorderedKey(i, comparisons)));
+        }
+    }
+
+    @Test
+    public void testIntersectMethod() {
+        HashSet<Integer> other = toSet(IntStream.of(1,2,3).toArray());
+        compare(HashSet.intersect(multiElementSet, other), IntStream.of(1,2).toArray());
+        compare(HashSet.intersect(other, multiElementSet), IntStream.of(1,2).toArray());
+        compare(HashSet.intersect(emptySet, other), IntStream.empty().toArray());
+    }
+
+    @Test
+    public void testRetainAllMethod() {
+        multiElementSet.retainAll(toSet(IntStream.of(1,2,3).toArray()));
+        compare(multiElementSet, IntStream.of(1,2).toArray());
+
+        multiElementSet.retainAll(toSet(IntStream.of(2).toArray()));
+        compare(multiElementSet, IntStream.of(2).toArray());
+    }
+
+    @Test
+    public void testRemoveAllMethod() {
+        multiElementSet.removeAll(toSet(IntStream.of(1,2,3,4).toArray()));
+        compare(multiElementSet, IntStream.of(0).toArray());
+
+        singleElementSet.removeAll(singleElementSet);
+        compare(singleElementSet, IntStream.empty().toArray());
+    }
+
+    @Test
+    public void testUnionWithMethod() {
+        multiElementSet.unionWith(toSet(IntStream.range(1, 100).toArray()));
+        compare(multiElementSet, IntStream.range(0, 100).toArray());
+    }
+
+    @Test
+    public void testBulkMethodsOnLargeSets() {
+        HashSet<Integer> evens = toSet(IntStream.range(0, 100000).filter(i -> i % 2 == 0).toArray());
+        HashSet<Integer> threes = toSet(IntStream.range(0, 100000).filter(i -> i % 3 == 0).toArray());
+        int[] sixes = IntStream.range(0, 100000).filter(i -> i % 6 == 0).toArray();
+
+        compare(HashSet.intersect(evens, threes), sixes);
+
+        HashSet<Integer> retained = toSet(IntStream.range(0, 100000).filter(i -> i % 2 == 0).toArray());
+        retained.retainAll(threes);
+        compare(retained, sixes);
+
+        evens.removeAll(threes);
+        compare(evens, IntStream.range(0, 100000).filter(i -> i % 2 == 0 && i % 3 != 0).toArray());
+        for (int i : sixes) {
+            assertEquals(false, evens.contains(i));
+        }
+    }
+
+    @Test
+    public void testBulkMethodsOnLargeSetsFromEitherSide() {
+        HashSet<Integer> evens = toSet(IntStream.range(0, 100000).filter(i -> i % 2 == 0).toArray());
+        HashSet<Integer> all = toSet(IntStream.range(0, 100000).toArray());
+        all.removeAll(evens);
+        compare(all, IntStream.range(0, 100000).filter(i -> i % 2 != 0).toArray());
+
+        HashSet<Integer> fives = toSet(IntStream.range(0, 100000).filter(i -> i % 5 == 0).toArray());
+        fives.removeAll(evens);
+        compare(fives, IntStream.range(0, 100000).filter(i -> i % 5 == 0 && i % 2 != 0).toArray());
+
+        evens.unionWith(toSet(IntStream.range(0, 100000).filter(i -> i % 3 == 0).toArray()));
+        compare(evens, IntStream.range(0, 100000).filter(i -> i % 2 == 0 || i % 3 == 0).toArray());
+    }
+
+    private static class CollidingKey implements Comparable<CollidingKey> {
+        private final int value;
+
+        CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof CollidingKey) && ((CollidingKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    // Ordered by half its value, so pairs of distinct keys compare as equal
+    private static class HalfOrderedKey implements Comparable<HalfOrderedKey> {
+        private final int value;
+
+        HalfOrderedKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(HalfOrderedKey other) {
+            return Integer.compare(value / 2, other.value / 2);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof HalfOrderedKey) && ((HalfOrderedKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    // Every pair of keys compares as equal, counting the comparisons made
+    private static class UnorderedKey implements Comparable<UnorderedKey> {
+        private final int value;
+        private final int[] comparisons;
+
+        UnorderedKey(int value, int[] comparisons) {
+            this.value = value;
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public int compareTo(UnorderedKey other) {
+            comparisons[0]++;
+            return 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof UnorderedKey) && ((UnorderedKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
 }
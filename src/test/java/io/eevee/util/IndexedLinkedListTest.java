@@ -0,0 +1,208 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the IndexedLinkedList class.
+ */
+public class IndexedLinkedListTest {
+
+    private IndexedLinkedList<Integer> emptyList;
+    private IndexedLinkedList<Integer> singleElementList;
+    private IndexedLinkedList<Integer> multiElementList;
+
+    @BeforeEach
+    public void setup() {
+        emptyList = toList(IntStream.empty().toArray());
+        singleElementList = toList(IntStream.of(0).toArray());
+        multiElementList = toList(IntStream.range(0, 3).toArray());
+    }
+
+    private IndexedLinkedList<Integer> toList(int[] array) {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        for (int i : array) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    private void compare(IndexedLinkedList<Integer> list, int[] array) {
+        list.assertInvarients();
+        assertEquals(array.length, list.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], list.get(i));
+        }
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testAddMethods() {
+        multiElementList.add(-1);
+        multiElementList.add(2, 5);
+        multiElementList.add(5, 6);
+        multiElementList.addLast(7);
+        compare(multiElementList, IntStream.of(-1,0,5,1,2,6,7).toArray());
+        emptyList.addLast(1);
+        emptyList.addFirst(0);
+        compare(emptyList, IntStream.of(0,1).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {singleElementList.add(2, 0);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {singleElementList.add(-1, 0);});
+    }
+
+    @Test
+    public void testGetMethods() {
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getFirst();});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getLast();});
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.get(0);});
+        assertEquals(0, singleElementList.getFirst());
+        assertEquals(0, singleElementList.getLast());
+        assertEquals(0, multiElementList.getFirst());
+        assertEquals(1, multiElementList.get(1));
+        assertEquals(2, multiElementList.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.get(3);});
+    }
+
+    @Test
+    public void testRemoveMethods() {
+        assertThrows(NoSuchElementException.class, () -> {emptyList.removeFirst();});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.removeLast();});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.remove(Integer.valueOf(0));});
+        singleElementList.removeLast();
+        compare(singleElementList, IntStream.empty().toArray());
+
+        IndexedLinkedList<Integer> list = toList(IntStream.range(0, 6).toArray());
+        list.removeFirst();
+        list.removeLast();
+        list.remove(1);
+        list.remove(Integer.valueOf(4));
+        list.remove(Integer.valueOf(9));
+        compare(list, IntStream.of(1,3).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {list.remove(2);});
+    }
+
+    @Test
+    public void testContainsAndSetMethods() {
+        assertFalse(emptyList.contains(0));
+        assertTrue(multiElementList.contains(2));
+        assertFalse(multiElementList.contains(3));
+        multiElementList.set(1, 9);
+        compare(multiElementList, IntStream.of(0,9,2).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.set(3, 0);});
+    }
+
+    @Test
+    public void testFreeSlotsAreReused() {
+        IndexedLinkedList<Integer> list = toList(IntStream.range(0, 10).toArray());
+        assertEquals(10, list.capacity());
+        // A list used as a queue cycles through its freed slots and never grows
+        for (int i = 10; i < 1000; i++) {
+            list.removeFirst();
+            list.addLast(i);
+        }
+        assertEquals(10, list.capacity());
+        compare(list, IntStream.range(990, 1000).toArray());
+        list.addLast(1000);
+        assertEquals(20, list.capacity());
+        list.assertInvarients();
+    }
+
+    @Test
+    public void testTrimToSize() {
+        IndexedLinkedList<Integer> list = toList(IntStream.range(0, 100).toArray());
+        for (int i = 0; i < 90; i++) {
+            list.remove(i % 3 == 0 ? 0 : list.size() - 1);
+        }
+        int[] remaining = IntStream.range(30, 40).toArray();
+        compare(list, remaining);
+        list.trimToSize();
+        assertEquals(10, list.capacity());
+        compare(list, remaining);
+        list.addFirst(29);
+        list.addLast(40);
+        compare(list, IntStream.range(29, 41).toArray());
+
+        emptyList.trimToSize();
+        compare(emptyList, IntStream.empty().toArray());
+        emptyList.addLast(0);
+        compare(emptyList, IntStream.of(0).toArray());
+    }
+
+    @Test
+    public void testClearMethod() {
+        IndexedLinkedList<Integer> list = toList(IntStream.range(0, 100).toArray());
+        list.clear();
+        assertEquals(10, list.capacity());
+        compare(list, IntStream.empty().toArray());
+        list.add(0);
+        compare(list, IntStream.of(0).toArray());
+    }
+
+    @Test
+    public void testListIterator() {
+        IndexedLinkedList<Integer> list = toList(IntStream.range(0, 5).toArray());
+        ListIterator<Integer> iterator = list.listIterator(2);
+        assertEquals(1, iterator.previous());
+        iterator.remove();
+        assertEquals(1, iterator.nextIndex());
+        assertEquals(2, iterator.next());
+        iterator.set(7);
+        iterator.add(8);
+        assertThrows(IllegalStateException.class, () -> {iterator.remove();});
+        assertEquals(3, iterator.next());
+        iterator.remove();
+        assertEquals(4, iterator.next());
+        assertFalse(iterator.hasNext());
+        iterator.add(5);
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+        compare(list, IntStream.of(0,7,8,4,5).toArray());
+
+        ListIterator<Integer> backwards = list.listIterator(list.size());
+        for (int i = list.size() - 1; i >= 0; i--) {
+            assertEquals(list.get(i), backwards.previous());
+        }
+        assertFalse(backwards.hasPrevious());
+        assertThrows(IndexOutOfBoundsException.class, () -> {list.listIterator(6);});
+    }
+
+    @Test
+    public void testRandomEditsMatchJavaList() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7919);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            }
+            if (i % 5000 == 0) list.trimToSize();
+        }
+        compare(list, expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+}
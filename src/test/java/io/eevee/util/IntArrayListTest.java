@@ -0,0 +1,185 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the IntArrayList class.
+ */
+public class IntArrayListTest {
+
+    private IntArrayList emptyList;
+    private IntArrayList multiElementList;
+    private IntArrayList atCapacityList;
+
+    @BeforeEach
+    public void setup() {
+        emptyList = toList(IntStream.empty().toArray());
+        multiElementList = toList(IntStream.range(0, 3).toArray());
+        atCapacityList = toList(IntStream.range(0, 10).toArray());
+    }
+
+    private IntArrayList toList(int[] array) {
+        IntArrayList list = new IntArrayList();
+        for (int i : array) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    private void compare(IntArrayList list, int[] array) {
+        assertEquals(array.length, list.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], list.get(i));
+        }
+        assertArrayEquals(array, list.toArray());
+    }
+
+    @Test
+    public void testGetFirstAndLastMethods() {
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getFirst();});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getLast();});
+        assertEquals(0, multiElementList.getFirst());
+        assertEquals(2, multiElementList.getLast());
+    }
+
+    @Test
+    public void testAddFirstMethod() {
+        multiElementList.addFirst(3);
+        compare(multiElementList, IntStream.of(3,0,1,2).toArray());
+    }
+
+    @Test
+    public void testAddMethodOnMiddleOfList() {
+        multiElementList.add(2, 3);
+        compare(multiElementList, IntStream.of(0,1,3,2).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.add(5, 3);});
+    }
+
+    @Test
+    public void testAddAllMethod() {
+        multiElementList.addFirst(-1);
+        multiElementList.addAll(IntStream.range(3, 20).toArray());
+        compare(multiElementList, IntStream.range(-1, 20).toArray());
+        emptyList.addAll(new int[0]);
+        compare(emptyList, new int[0]);
+    }
+
+    @Test
+    public void testRemoveMethods() {
+        atCapacityList.remove(2);
+        atCapacityList.remove(7);
+        atCapacityList.removeFirst();
+        atCapacityList.removeLast();
+        compare(atCapacityList, IntStream.of(1,3,4,5,6,7).toArray());
+        assertThrows(NoSuchElementException.class, () -> {emptyList.removeFirst();});
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.remove(0);});
+    }
+
+    @Test
+    public void testSetMethod() {
+        multiElementList.set(1, 3);
+        compare(multiElementList, IntStream.of(0,3,2).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.set(3, 3);});
+    }
+
+    @Test
+    public void testContainsMethod() {
+        assertEquals(false, emptyList.contains(0));
+        assertEquals(true, multiElementList.contains(2));
+        assertEquals(false, multiElementList.contains(3));
+    }
+
+    @Test
+    public void testForEachMethod() {
+        atCapacityList.addFirst(-1);
+        int[] sum = new int[1];
+        atCapacityList.forEach(value -> sum[0] += value);
+        assertEquals(44, sum[0]);
+    }
+
+    @Test
+    public void testListGrowsAndTrims() {
+        assertEquals(10, atCapacityList.capacity());
+        atCapacityList.addLast(10);
+        assertEquals(20, atCapacityList.capacity());
+        atCapacityList.trimToSize();
+        assertEquals(11, atCapacityList.capacity());
+        compare(atCapacityList, IntStream.range(0, 11).toArray());
+        atCapacityList.clear();
+        compare(atCapacityList, new int[0]);
+    }
+
+    @Test
+    public void testEditsAcrossWrappedBuffer() {
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(104729);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                emptyList.addFirst(i);
+                expected.add(0, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                emptyList.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                emptyList.remove(index);
+                expected.remove(index);
+            }
+        }
+        compare(emptyList, expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    public void testSortMethodsOnWrappedList() {
+        Random random = new Random(104729);
+        int[] values = random.ints(100000).toArray();
+        for (int i = 0; i < values.length; i++) {
+            if (i % 2 == 0) {
+                emptyList.addFirst(values[i]);
+            } else {
+                emptyList.addLast(values[i]);
+            }
+        }
+        IntArrayList copy = new IntArrayList();
+        copy.addAll(emptyList.toArray());
+        emptyList.parallelSort();
+        copy.addFirst(Integer.MAX_VALUE);
+        copy.removeFirst();
+        copy.sort();
+        Arrays.sort(values);
+        compare(emptyList, values);
+        compare(copy, values);
+    }
+
+    @Test
+    public void testGrowthStopsAtMaximumCapacity() {
+        IntArrayList capped = new IntArrayList(25);
+        for (int i = 0; i < 20; i++) {
+            capped.addLast(1);
+        }
+        assertEquals(20, capped.capacity());
+        // Doubling would pass the maximum, so the list grows only as far as it
+        capped.addAll(new int[]{1, 2});
+        assertEquals(25, capped.capacity());
+        capped.addAll(new int[]{4, 5, 6});
+        assertEquals(25, capped.size());
+        assertThrows(IllegalStateException.class, () -> {capped.addLast(1);});
+        assertThrows(IllegalStateException.class, () -> {capped.addAll(new int[]{1, 2});});
+        assertEquals(25, capped.size());
+        capped.ensureCapacity(100);
+        assertEquals(25, capped.capacity());
+    }
+}
@@ -179,4 +179,36 @@ public class LinkedBinaryTreeTest {
         assertEquals(2, multiElementTree.get(5));
         assertEquals(3, multiElementTree.get(6));
     }
+
+    @Test
+    public void testTreeRemainsBalancedOnOrderedInsertsAndRemoves() {
+        LinkedBinaryTree<Integer> tree = new LinkedBinaryTree<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            tree.add(i);
+            tree.assertInvarients();
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            tree.remove(Integer.valueOf(i));
+            tree.assertInvarients();
+        }
+        tree.removeFirst();
+        tree.removeLast();
+        tree.assertInvarients();
+
+        Integer previous = null;
+        int count = 0;
+        for (Integer element : tree) {
+            if (previous != null) assertEquals(true, previous < element);
+            assertEquals(false, element % 3 == 0);
+            previous = element;
+            count++;
+        }
+        assertEquals(tree.size(), count);
+        assertEquals(664, count);
+    }
+
+    @Test
+    public void testIterableOnEmptyTree() {
+        assertEquals(false, emptyTree.iterator().hasNext());
+    }
 }
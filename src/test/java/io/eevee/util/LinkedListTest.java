@@ -1,13 +1,20 @@
 package io.eevee.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.lang.IndexOutOfBoundsException;
 import java.lang.Integer;
+import java.lang.management.ManagementFactory;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.stream.IntStream;
 
+import com.sun.management.ThreadMXBean;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -316,4 +323,168 @@ public class LinkedListTest {
         LinkedList<Integer> listWithDuplicates = toList(IntStream.of(0,3,1,3,2).toArray());
         listWithDuplicates.remove(Integer.valueOf(3));
     }
+
+    @Test
+    public void testRemoveLastMethodAfterAddFirst() {
+        emptyList.addFirst(1);
+        emptyList.addFirst(0);
+        emptyList.removeLast();
+        emptyList.assertInvarients();
+        compare(emptyList, IntStream.of(0).toArray());
+    }
+
+    // Walks the previous links from the tail, which get alone would not exercise
+    private void compareBackwards(LinkedList<Integer> list, int[] array) {
+        ListIterator<Integer> iterator = list.listIterator(list.size());
+        for (int i = array.length - 1; i >= 0; i--) {
+            assertEquals(array[i], iterator.previous());
+        }
+        assertFalse(iterator.hasPrevious());
+        list.assertInvarients();
+    }
+
+    @Test
+    public void testAddAtIndexKeepsPreviousLinks() {
+        multiElementList.add(1, 5);
+        multiElementList.add(3, 6);
+        compare(multiElementList, IntStream.of(0,5,1,6,2).toArray());
+        compareBackwards(multiElementList, IntStream.of(0,5,1,6,2).toArray());
+    }
+
+    @Test
+    public void testPositionalMethodsNearTail() {
+        LinkedList<Integer> list = toList(IntStream.range(0, 10).toArray());
+        assertEquals(8, list.get(8));
+        list.set(7, 70);
+        list.remove(6);
+        list.add(8, 80);
+        compare(list, IntStream.of(0,1,2,3,4,5,70,8,80,9).toArray());
+        compareBackwards(list, IntStream.of(0,1,2,3,4,5,70,8,80,9).toArray());
+    }
+
+    @Test
+    public void testListIteratorTraversal() {
+        ListIterator<Integer> iterator = multiElementList.listIterator();
+        assertFalse(iterator.hasPrevious());
+        assertThrows(NoSuchElementException.class, () -> {iterator.previous();});
+        assertEquals(0, iterator.next());
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.nextIndex());
+        assertEquals(1, iterator.previousIndex());
+        assertEquals(1, iterator.previous());
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {iterator.next();});
+
+        assertEquals(1, multiElementList.listIterator(2).previous());
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiElementList.listIterator(4);});
+    }
+
+    @Test
+    public void testListIteratorModification() {
+        LinkedList<Integer> list = toList(IntStream.range(0, 6).toArray());
+        ListIterator<Integer> iterator = list.listIterator();
+        assertThrows(IllegalStateException.class, () -> {iterator.remove();});
+        // Removes the odd elements, doubles the rest and inserts a marker after each
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 1) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 2);
+                iterator.add(-1);
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> {iterator.set(0);});
+        compare(list, IntStream.of(0,-1,4,-1,8,-1).toArray());
+        compareBackwards(list, IntStream.of(0,-1,4,-1,8,-1).toArray());
+
+        // Removing after previous, then adding at both ends
+        ListIterator<Integer> backwards = list.listIterator(list.size());
+        assertEquals(-1, backwards.previous());
+        backwards.remove();
+        assertEquals(5, backwards.nextIndex());
+        backwards.add(9);
+        while (backwards.hasPrevious()) {
+            backwards.previous();
+        }
+        backwards.add(7);
+        compare(list, IntStream.of(7,0,-1,4,-1,8,9).toArray());
+        compareBackwards(list, IntStream.of(7,0,-1,4,-1,8,9).toArray());
+
+        ListIterator<Integer> emptyIterator = emptyList.listIterator();
+        emptyIterator.add(1);
+        compare(emptyList, IntStream.of(1).toArray());
+        compareBackwards(emptyList, IntStream.of(1).toArray());
+    }
+
+    @Test
+    public void testNodePool() {
+        assertThrows(IllegalArgumentException.class, () -> {new LinkedList<Integer>(-1);});
+        LinkedList<Integer> list = new LinkedList<>(4);
+        for (int i = 0; i < 6; i++) {
+            list.addLast(i);
+        }
+        for (int i = 0; i < 6; i++) {
+            list.removeFirst();
+        }
+        // The pool is bounded, the nodes removed beyond its capacity are left to the garbage collector
+        assertEquals(4, list.pooledNodes());
+        list.addFirst(1);
+        list.add(1, 2);
+        list.addLast(3);
+        assertEquals(1, list.pooledNodes());
+        compare(list, IntStream.of(1,2,3).toArray());
+        compareBackwards(list, IntStream.of(1,2,3).toArray());
+        list.remove(Integer.valueOf(2));
+        list.removeLast();
+        assertEquals(3, list.pooledNodes());
+        compare(list, IntStream.of(1).toArray());
+
+        assertEquals(0, emptyList.pooledNodes());
+        multiElementList.removeFirst();
+        assertEquals(0, multiElementList.pooledNodes());
+    }
+
+    @Test
+    public void testNodePoolSteadyStateAllocation() {
+        // Stands in for a JMH -prof gc run, the allocation of this thread is measured directly where the JVM supports
+        // it. The elements are boxed up front so only node allocation is measured.
+        // Skipped on virtual machines without the HotSpot extension of the thread bean, checked before any cast
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        Integer[] messages = new Integer[64];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = 1000 + i;
+        }
+        int operations = 200000;
+
+        LinkedList<Integer> pooled = new LinkedList<>(64);
+        LinkedList<Integer> unpooled = new LinkedList<>();
+        // Warms up both lists, filling the pool
+        queueTraffic(pooled, messages, operations);
+        queueTraffic(unpooled, messages, operations);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        queueTraffic(pooled, messages, operations);
+        long pooledBytes = threads.getCurrentThreadAllocatedBytes() - before;
+        before = threads.getCurrentThreadAllocatedBytes();
+        queueTraffic(unpooled, messages, operations);
+        long unpooledBytes = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(unpooledBytes >= (long) operations * 16, "unpooled list allocated " + unpooledBytes + " bytes");
+        assertTrue(pooledBytes < unpooledBytes / 100, "pooled list allocated " + pooledBytes + " bytes");
+    }
+
+    private void queueTraffic(LinkedList<Integer> list, Integer[] messages, int operations) {
+        for (int i = 0; i < operations; i++) {
+            list.addLast(messages[i & 63]);
+            if (list.size() > 32) list.removeFirst();
+        }
+        while (list.size() > 0) {
+            list.removeFirst();
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the LongArrayList class.
+ */
+public class LongArrayListTest {
+
+    private LongArrayList list;
+
+    @BeforeEach
+    public void setup() {
+        list = new LongArrayList();
+        list.addAll(LongStream.range(0, 10).toArray());
+    }
+
+    @Test
+    public void testAddAndRemoveMethods() {
+        list.addFirst(-1L);
+        list.addLast(Long.MAX_VALUE);
+        list.add(5, 100L);
+        list.remove(6);
+        assertEquals(-1L, list.getFirst());
+        assertEquals(Long.MAX_VALUE, list.getLast());
+        assertArrayEquals(new long[]{-1, 0, 1, 2, 3, 100, 5, 6, 7, 8, 9, Long.MAX_VALUE}, list.toArray());
+        assertEquals(true, list.contains(100L));
+        assertEquals(false, list.contains(4L));
+    }
+
+    @Test
+    public void testForEachMethod() {
+        long[] sum = new long[1];
+        list.forEach(value -> sum[0] += value);
+        assertEquals(45L, sum[0]);
+    }
+
+    @Test
+    public void testClearMethod() {
+        list.clear();
+        assertEquals(0, list.size());
+        assertThrows(NoSuchElementException.class, () -> {list.getFirst();});
+    }
+
+    @Test
+    public void testSortMethods() {
+        LongArrayList other = new LongArrayList();
+        other.addAll(new long[]{3, -1, 2});
+        other.addFirst(10);
+        other.sort();
+        assertArrayEquals(new long[]{-1, 2, 3, 10}, other.toArray());
+        other.addFirst(-5);
+        other.parallelSort();
+        assertArrayEquals(new long[]{-5, -1, 2, 3, 10}, other.toArray());
+    }
+
+    @Test
+    public void testGrowthStopsAtMaximumCapacity() {
+        LongArrayList capped = new LongArrayList(25);
+        for (int i = 0; i < 20; i++) {
+            capped.addLast(1L);
+        }
+        assertEquals(20, capped.capacity());
+        // Doubling would pass the maximum, so the list grows only as far as it
+        capped.addAll(new long[]{1L, 2L});
+        assertEquals(25, capped.capacity());
+        capped.addAll(new long[]{4L, 5L, 6L});
+        assertEquals(25, capped.size());
+        assertThrows(IllegalStateException.class, () -> {capped.addLast(1L);});
+        assertThrows(IllegalStateException.class, () -> {capped.addAll(new long[]{1L, 2L});});
+        assertEquals(25, capped.size());
+        capped.ensureCapacity(100);
+        assertEquals(25, capped.capacity());
+    }
+}
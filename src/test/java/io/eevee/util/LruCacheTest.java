@@ -0,0 +1,212 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Integer;
+import java.lang.String;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the LruCache class.
+ */
+public class LruCacheTest {
+
+    private LruCache<Integer, String> cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new LruCache<>(3, (key, value) -> 1, 1);
+        cache.put(0, "zero");
+        cache.put(1, "one");
+        cache.put(2, "two");
+    }
+
+    @Test
+    public void testGetMethodCountsHitsAndMisses() {
+        assertEquals("zero", cache.get(0));
+        assertEquals("two", cache.get(2));
+        assertNull(cache.get(3));
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertThrows(NullPointerException.class, () -> {cache.get(null);});
+    }
+
+    @Test
+    public void testPutMethodEvictsLeastRecentlyUsed() {
+        cache.get(0);
+        cache.put(3, "three");
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.get(1));
+        assertEquals("zero", cache.get(0));
+        assertEquals("two", cache.get(2));
+        assertEquals("three", cache.get(3));
+    }
+
+    @Test
+    public void testPutMethodReplacesValue() {
+        cache.put(0, "nil");
+        cache.put(3, "three");
+        assertEquals("nil", cache.get(0));
+        assertNull(cache.get(1));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testPutMethodRespectsWeigher() {
+        LruCache<Integer, String> weighted = new LruCache<>(10, (key, value) -> value.length(), 1);
+        weighted.put(0, "aaaa");
+        weighted.put(1, "bbbb");
+        assertEquals(8, weighted.weight());
+        weighted.put(2, "cccc");
+        assertEquals(8, weighted.weight());
+        assertEquals(2, weighted.size());
+        assertNull(weighted.get(0));
+
+        weighted.put(3, "dddddddddddd");
+        assertEquals(0, weighted.size());
+        assertEquals(0, weighted.weight());
+        assertEquals(4, weighted.evictionCount());
+    }
+
+    @Test
+    public void testRemoveMethod() {
+        cache.remove(1);
+        cache.remove(1);
+        assertEquals(2, cache.size());
+        assertNull(cache.get(1));
+        cache.put(3, "three");
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    public void testClearMethod() {
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    public void testSegmentedCacheStaysWithinMaxWeight() {
+        LruCache<Integer, Integer> segmented = new LruCache<>(1000);
+        for (int i = 0; i < 100000; i++) {
+            segmented.put(i, i);
+        }
+        assertEquals(1000, segmented.maxWeight());
+        assertTrue(segmented.weight() <= 1000);
+        assertEquals(100000, segmented.size() + segmented.evictionCount());
+        assertEquals(99999, segmented.get(99999));
+    }
+
+    @Test
+    public void testDefaultConcurrencyLevelFillsToMaxWeight() {
+        LruCache<Integer, Integer> segmented = new LruCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            segmented.put(i, i);
+        }
+        // The maximum weight applies to the whole cache rather than being split between the segments
+        assertEquals(100, segmented.size());
+        assertEquals(0, segmented.evictionCount());
+
+        segmented.put(100, 100);
+        assertEquals(100, segmented.size());
+        assertEquals(100, segmented.weight());
+        assertEquals(1, segmented.evictionCount());
+        assertEquals(100, segmented.get(100));
+    }
+
+    @Test
+    public void testDefaultConcurrencyLevelHoldsHeavyEntries() {
+        LruCache<Integer, Integer> weighted = new LruCache<>(1000, (key, value) -> value);
+        weighted.put(0, 100);
+        assertEquals(1, weighted.size());
+        assertEquals(100, weighted.weight());
+        for (int i = 1; i <= 9; i++) {
+            weighted.put(i, 100);
+        }
+        assertEquals(10, weighted.size());
+        assertEquals(1000, weighted.weight());
+        weighted.put(10, 500);
+        assertEquals(6, weighted.size());
+        assertEquals(1000, weighted.weight());
+        assertEquals(5, weighted.evictionCount());
+        // The new entry outweighs the rest of its segment, so the other segments give up entries too
+        int cached = 0;
+        for (int i = 0; i < 10; i++) {
+            if (weighted.get(i) != null) cached++;
+        }
+        assertEquals(5, cached);
+        assertEquals(500, weighted.get(10));
+        weighted.remove(10);
+        assertEquals(500, weighted.weight());
+    }
+
+    @Test
+    public void testConcurrentPutsStayWithinMaxWeight() throws InterruptedException {
+        LruCache<Integer, Integer> shared = new LruCache<>(1000);
+        Thread[] workers = new Thread[4];
+        for (int t = 0; t < workers.length; t++) {
+            int offset = t * 50000;
+            workers[t] = new Thread(() -> {
+                for (int i = offset; i < offset + 50000; i++) {
+                    shared.put(i, i);
+                    shared.get(i - 10);
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(1000, shared.size());
+        assertEquals(1000, shared.weight());
+        assertEquals(200000, shared.size() + shared.evictionCount());
+    }
+
+    @Test
+    public void testConcurrentPutsOnFullCache() throws InterruptedException {
+        LruCache<Integer, Integer> shared = new LruCache<>(4096, (key, value) -> 1 + (value & 7));
+        for (int i = 0; shared.evictionCount() == 0; i++) {
+            shared.put(-1 - i, i);
+        }
+        long filled = shared.size() + shared.evictionCount();
+        Thread[] workers = new Thread[8];
+        for (int t = 0; t < workers.length; t++) {
+            int offset = t * 100000;
+            workers[t] = new Thread(() -> {
+                for (int i = offset; i < offset + 100000; i++) {
+                    shared.put(i, i);
+                    shared.get(i - 100);
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(shared.weight() <= 4096);
+        // Racing puts may each evict one entry more than needed, never much more
+        assertTrue(shared.weight() > 4096 - workers.length * 8);
+        assertEquals(filled + 800000, shared.size() + shared.evictionCount());
+        long weight = 0;
+        for (int i = 0; i < 800000; i++) {
+            Integer value = shared.get(i);
+            if (value != null) weight += 1 + (value & 7);
+        }
+        for (int i = -1; i >= -filled; i--) {
+            Integer value = shared.get(i);
+            if (value != null) weight += 1 + (value & 7);
+        }
+        assertEquals(shared.weight(), weight);
+    }
+}
@@ -0,0 +1,129 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.IndexOutOfBoundsException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the MappedList class.
+ */
+public class MappedListTest {
+
+    private Path path;
+    private MappedList list;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        path = Files.createTempFile("mapped-list", ".bin");
+        Files.delete(path);
+        list = new MappedList(path, Long.BYTES);
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        list.close();
+        Files.deleteIfExists(path);
+    }
+
+    private static byte[] element(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    private void compare(MappedList list, long[] values) {
+        assertEquals(values.length, list.size());
+        for (int i = 0; i < values.length; i++) {
+            assertArrayEquals(element(values[i]), list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddAndGetMethods() {
+        assertThrows(IndexOutOfBoundsException.class, () -> {list.get(0);});
+        assertThrows(IllegalArgumentException.class, () -> {list.addLast(new byte[3]);});
+        list.addLast(element(1));
+        list.addLast(element(2));
+        list.addFirst(element(0));
+        compare(list, new long[] {0, 1, 2});
+        byte[] destination = new byte[Long.BYTES];
+        list.get(2, destination);
+        assertArrayEquals(element(2), destination);
+    }
+
+    @Test
+    public void testGrowWhileWrapped() {
+        // Adding to the front wraps the circular buffer so growing has to move the wrapped elements
+        long[] expected = new long[25];
+        for (int i = 0; i < 25; i++) {
+            if (i % 2 == 0) {
+                list.addFirst(element(-i));
+            } else {
+                list.addLast(element(i));
+            }
+        }
+        for (int i = 0; i < 13; i++) {
+            expected[i] = -(24 - 2 * i);
+        }
+        for (int i = 0; i < 12; i++) {
+            expected[13 + i] = 2 * i + 1;
+        }
+        compare(list, expected);
+        assertEquals(40, list.capacity());
+    }
+
+    @Test
+    public void testRemoveAndSetMethods() {
+        assertThrows(NoSuchElementException.class, () -> {list.removeFirst();});
+        assertThrows(NoSuchElementException.class, () -> {list.removeLast();});
+        for (int i = 0; i < 4; i++) {
+            list.addLast(element(i));
+        }
+        list.removeFirst();
+        list.removeLast();
+        list.set(1, element(7));
+        compare(list, new long[] {1, 7});
+        assertThrows(IndexOutOfBoundsException.class, () -> {list.set(2, element(0));});
+        list.clear();
+        compare(list, new long[0]);
+    }
+
+    @Test
+    public void testReopen() throws IOException {
+        for (int i = 0; i < 15; i++) {
+            list.addFirst(element(i));
+        }
+        list.removeLast();
+        list.force();
+        list.close();
+
+        list = new MappedList(path, Long.BYTES);
+        long[] expected = new long[14];
+        for (int i = 0; i < 14; i++) {
+            expected[i] = 14 - i;
+        }
+        compare(list, expected);
+        assertEquals(20, list.capacity());
+        assertThrows(IllegalArgumentException.class, () -> {new MappedList(path, Integer.BYTES);});
+    }
+
+    @Test
+    public void testOpenInvalidFile() throws IOException {
+        Path invalid = Files.createTempFile("mapped-list", ".bin");
+        try {
+            Files.write(invalid, new byte[64]);
+            assertThrows(IOException.class, () -> {new MappedList(invalid, Long.BYTES);});
+        } finally {
+            Files.delete(invalid);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the MpmcArrayQueue class.
+ */
+public class MpmcArrayQueueTest {
+
+    private MpmcArrayQueue<Integer> queue;
+
+    @BeforeEach
+    public void setup() {
+        queue = new MpmcArrayQueue<>(6);
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(8, queue.capacity());
+        assertThrows(IllegalArgumentException.class, () -> {new MpmcArrayQueue<Integer>(1);});
+    }
+
+    @Test
+    public void testOfferAndPollMethods() {
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> {queue.offer(null);});
+        // Several laps of the ring check the sequences are handed back correctly
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.offer(i));
+            }
+            assertFalse(queue.offer(8));
+            assertEquals(8, queue.size());
+            for (int i = 0; i < 8; i++) {
+                assertEquals(i, queue.poll());
+            }
+            assertNull(queue.poll());
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test
+    public void testDrainToMethod() {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        AtomicInteger expected = new AtomicInteger(0);
+        assertEquals(3, queue.drainTo(element -> assertEquals(expected.getAndIncrement(), element), 3));
+        assertEquals(2, queue.drainTo(element -> assertEquals(expected.getAndIncrement(), element), 10));
+        assertEquals(0, queue.drainTo(element -> {}, 10));
+    }
+
+    @Test
+    public void testDrainToMethodAcrossLapsAndFailures() {
+        // The batch wraps around the end of the ring and its slots are handed back to the producers
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.offer(lap * 8 + i));
+            }
+            int base = lap * 8;
+            AtomicInteger expected = new AtomicInteger(base);
+            assertEquals(5, queue.drainTo(element -> assertEquals(expected.getAndIncrement(), element), 5));
+            for (int i = 0; i < 5; i++) {
+                assertTrue(queue.offer(-1));
+            }
+            assertFalse(queue.offer(-1));
+            assertEquals(8, queue.drainTo(element -> {}, 100));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+        AtomicInteger delivered = new AtomicInteger(0);
+        assertThrows(IllegalStateException.class, () -> {
+            queue.drainTo(element -> {
+                delivered.incrementAndGet();
+                if (element == 1) throw new IllegalStateException();
+            }, 10);
+        });
+        // Every claimed element is still delivered and no slot is left claimed
+        assertEquals(4, delivered.get());
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.offer(4));
+        assertEquals(4, queue.poll());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        MpmcArrayQueue<Integer> sharedQueue = new MpmcArrayQueue<>(64);
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 50000;
+        int total = producers * elementsPerProducer;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger consumed = new AtomicInteger(0);
+        AtomicLong sum = new AtomicLong(0);
+        boolean[] seen = new boolean[total];
+        Thread[] workers = new Thread[producers + consumers];
+        for (int t = 0; t < producers; t++) {
+            int offset = t * elementsPerProducer;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = offset; i < offset + elementsPerProducer; i++) {
+                    while (!sharedQueue.offer(i)) {
+                        // Yields rather than spins so the other threads run promptly even on a single processor
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int t = producers; t < producers + consumers; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (consumed.get() < total) {
+                    int drained = sharedQueue.drainTo(element -> {
+                        synchronized (seen) {
+                            seen[element] = true;
+                        }
+                        sum.addAndGet(element);
+                    }, 16);
+                    if (drained == 0) {
+                        Thread.yield();
+                    } else {
+                        consumed.addAndGet(drained);
+                    }
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.setDaemon(true);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(60));
+            assertFalse(worker.isAlive());
+        }
+
+        assertEquals(total, consumed.get());
+        assertEquals((long) total * (total - 1) / 2, sum.get());
+        for (boolean element : seen) {
+            assertTrue(element);
+        }
+        assertTrue(sharedQueue.isEmpty());
+    }
+}
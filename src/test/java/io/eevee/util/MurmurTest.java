@@ -26,4 +26,13 @@ public class MurmurTest {
         assertEquals(13417721, Murmur.hash("lkjh234lh9fiuh90y23oiuhsafujhadof229phr9h19h89h8".getBytes(), 123));
         assertEquals(461137560, Murmur.hash(new byte[]{'a', 'b', 'c'}, 123));
     }
+
+    @Test
+    public void testIntHashMethodMatchesLittleEndianBytes() {
+        for (int data : IntStream.of(0, 1, -1, 21, 123456789, Integer.MIN_VALUE, Integer.MAX_VALUE).toArray()) {
+            byte[] bytes = new byte[]{(byte) data, (byte) (data >>> 8), (byte) (data >>> 16), (byte) (data >>> 24)};
+            assertEquals(Murmur.hash(bytes, 123), Murmur.hash(data, 123));
+            assertEquals(Murmur.hash(bytes), Murmur.hash(data));
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.String;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the OffHeapBytesHashSet class.
+ */
+public class OffHeapBytesHashSetTest {
+
+    private OffHeapBytesHashSet emptySet;
+    private OffHeapBytesHashSet multiElementSet;
+
+    @BeforeEach
+    public void setup() {
+        emptySet = new OffHeapBytesHashSet(64);
+        multiElementSet = new OffHeapBytesHashSet(64);
+        multiElementSet.add("0".getBytes());
+        multiElementSet.add("1".getBytes());
+        multiElementSet.add("2".getBytes());
+    }
+
+    @Test
+    public void testSizeMethod() {
+        assertEquals(0, emptySet.size());
+        assertEquals(3, multiElementSet.size());
+    }
+
+    @Test
+    public void testContainsMethodComparesContent() {
+        assertEquals(false, emptySet.contains("0".getBytes()));
+        assertEquals(true, multiElementSet.contains("0".getBytes()));
+        assertEquals(true, multiElementSet.contains("2".getBytes()));
+        assertEquals(false, multiElementSet.contains("3".getBytes()));
+        assertEquals(false, multiElementSet.contains(new byte[0]));
+        assertThrows(NullPointerException.class, () -> {multiElementSet.contains(null);});
+    }
+
+    @Test
+    public void testAddMethodOnDuplicate() {
+        multiElementSet.add("0".getBytes());
+        assertEquals(3, multiElementSet.size());
+    }
+
+    @Test
+    public void testAddMethodCopiesKey() {
+        byte[] key = "key".getBytes();
+        emptySet.add(key);
+        key[0] = 'x';
+        assertEquals(true, emptySet.contains("key".getBytes()));
+        assertEquals(false, emptySet.contains(key));
+    }
+
+    @Test
+    public void testSetGrowsAcrossSlabs() {
+        for (int i = 0; i < 10000; i++) {
+            emptySet.add(String.valueOf(i).getBytes());
+        }
+        emptySet.add(new byte[100]);
+        assertEquals(10001, emptySet.size());
+        assertTrue(emptySet.offHeapBytes() >= 38890 + 100);
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(true, emptySet.contains(String.valueOf(i).getBytes()));
+        }
+        assertEquals(true, emptySet.contains(new byte[100]));
+    }
+
+    @Test
+    public void testRemoveMethod() {
+        for (int i = 0; i < 1000; i++) {
+            emptySet.add(String.valueOf(i).getBytes());
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            emptySet.remove(String.valueOf(i).getBytes());
+        }
+        assertEquals(500, emptySet.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, emptySet.contains(String.valueOf(i).getBytes()));
+        }
+    }
+
+    @Test
+    public void testClearMethod() {
+        multiElementSet.clear();
+        assertEquals(0, multiElementSet.size());
+        assertEquals(0, multiElementSet.offHeapBytes());
+        assertEquals(false, multiElementSet.contains("0".getBytes()));
+    }
+
+    @Test
+    public void testIterable() {
+        OffHeapBytesHashSet comparisonSet = new OffHeapBytesHashSet();
+        comparisonSet.add("0".getBytes());
+        comparisonSet.add("1".getBytes());
+        comparisonSet.add("2".getBytes());
+        for (byte[] key : multiElementSet) {
+            comparisonSet.remove(key);
+        }
+        assertEquals(0, comparisonSet.size());
+    }
+}
@@ -0,0 +1,137 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.eevee.util.RecordList.FieldType;
+
+/**
+ * Unit test for the RecordList class.
+ */
+public class RecordListTest {
+
+    private static final int TIMESTAMP = 0;
+    private static final int ID = 1;
+    private static final int VALUE = 2;
+
+    private RecordList emptyList;
+    private RecordList multiRecordList;
+
+    @BeforeEach
+    public void setup() {
+        emptyList = new RecordList(FieldType.LONG, FieldType.INT, FieldType.DOUBLE);
+        multiRecordList = new RecordList(FieldType.LONG, FieldType.INT, FieldType.DOUBLE);
+        for (int i = 0; i < 3; i++) {
+            addRecord(multiRecordList, i);
+        }
+    }
+
+    private void addRecord(RecordList list, int i) {
+        int row = list.add();
+        list.setLong(row, TIMESTAMP, 1000L * i);
+        list.setInt(row, ID, i);
+        list.setDouble(row, VALUE, i / 2.0);
+    }
+
+    private void compare(RecordList list, int[] ids) {
+        assertEquals(ids.length, list.size());
+        for (int row = 0; row < ids.length; row++) {
+            assertEquals(1000L * ids[row], list.getLong(row, TIMESTAMP));
+            assertEquals(ids[row], list.getInt(row, ID));
+            assertEquals(ids[row] / 2.0, list.getDouble(row, VALUE));
+        }
+    }
+
+    @Test
+    public void testAddMethod() {
+        compare(multiRecordList, new int[] {0, 1, 2});
+        for (int i = 3; i < 100; i++) {
+            addRecord(multiRecordList, i);
+        }
+        compare(multiRecordList, java.util.stream.IntStream.range(0, 100).toArray());
+        assertEquals(160, multiRecordList.capacity());
+    }
+
+    @Test
+    public void testAllFieldTypes() {
+        RecordList list = new RecordList(FieldType.BYTE, FieldType.SHORT, FieldType.INT, FieldType.LONG,
+            FieldType.FLOAT, FieldType.DOUBLE);
+        int row = list.add();
+        assertEquals(0, list.getLong(row, 3));
+        list.setByte(row, 0, (byte) -1);
+        list.setShort(row, 1, (short) 300);
+        list.setInt(row, 2, Integer.MIN_VALUE);
+        list.setLong(row, 3, Long.MAX_VALUE);
+        list.setFloat(row, 4, 1.5f);
+        list.setDouble(row, 5, -2.25);
+        assertEquals((byte) -1, list.getByte(row, 0));
+        assertEquals((short) 300, list.getShort(row, 1));
+        assertEquals(Integer.MIN_VALUE, list.getInt(row, 2));
+        assertEquals(Long.MAX_VALUE, list.getLong(row, 3));
+        assertEquals(1.5f, list.getFloat(row, 4));
+        assertEquals(-2.25, list.getDouble(row, 5));
+    }
+
+    @Test
+    public void testInvalidAccess() {
+        assertThrows(IllegalArgumentException.class, () -> {new RecordList();});
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.getLong(0, TIMESTAMP);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiRecordList.getLong(3, TIMESTAMP);});
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiRecordList.getLong(0, 3);});
+        assertThrows(IllegalArgumentException.class, () -> {multiRecordList.getInt(0, TIMESTAMP);});
+        assertThrows(IllegalArgumentException.class, () -> {multiRecordList.setDouble(0, ID, 1.0);});
+    }
+
+    @Test
+    public void testRemoveMethods() {
+        assertThrows(NoSuchElementException.class, () -> {emptyList.removeLast();});
+        multiRecordList.remove(0);
+        compare(multiRecordList, new int[] {1, 2});
+        multiRecordList.removeLast();
+        compare(multiRecordList, new int[] {1});
+        // A record added after a removal starts zeroed
+        int row = multiRecordList.add();
+        assertEquals(0, multiRecordList.getLong(row, TIMESTAMP));
+        assertEquals(0, multiRecordList.getInt(row, ID));
+        assertEquals(0.0, multiRecordList.getDouble(row, VALUE));
+    }
+
+    @Test
+    public void testClearMethod() {
+        multiRecordList.clear();
+        assertEquals(0, multiRecordList.size());
+        assertEquals(10, multiRecordList.capacity());
+    }
+
+    @Test
+    public void testColumnMethod() {
+        ByteBuffer ids = multiRecordList.column(ID);
+        assertTrue(ids.isReadOnly());
+        assertEquals(3 * Integer.BYTES, ids.remaining());
+        int sum = 0;
+        while (ids.hasRemaining()) {
+            sum += ids.getInt();
+        }
+        assertEquals(3, sum);
+        assertThrows(IndexOutOfBoundsException.class, () -> {multiRecordList.column(3);});
+    }
+
+    @Test
+    public void testRowLimitFollowsWidestField() {
+        RecordList wide = new RecordList(FieldType.BYTE, FieldType.LONG, FieldType.INT);
+        assertEquals(Integer.MAX_VALUE / 8, wide.maximumRows());
+        assertEquals(Integer.MAX_VALUE / 4, new RecordList(FieldType.SHORT, FieldType.FLOAT).maximumRows());
+        // Rejected before any column is allocated, rather than overflowing the size of the buffers
+        assertThrows(IllegalStateException.class, () -> {wide.ensureCapacity(Integer.MAX_VALUE / 8 + 1);});
+        assertThrows(IllegalStateException.class, () -> {wide.ensureCapacity(Integer.MAX_VALUE);});
+        assertEquals(10, wide.capacity());
+    }
+}
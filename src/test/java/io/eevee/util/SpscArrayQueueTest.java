@@ -0,0 +1,119 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the SpscArrayQueue class.
+ */
+public class SpscArrayQueueTest {
+
+    private SpscArrayQueue<Integer> queue;
+
+    @BeforeEach
+    public void setup() {
+        queue = new SpscArrayQueue<>(8);
+    }
+
+    @Test
+    public void testOfferPeekAndPollMethods() {
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertThrows(NullPointerException.class, () -> {queue.offer((Integer) null);});
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.offer(i));
+            }
+            assertFalse(queue.offer(8));
+            assertEquals(8, queue.size());
+            for (int i = 0; i < 8; i++) {
+                assertEquals(i, queue.peek());
+                assertEquals(i, queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void testBatchOfferMethod() {
+        Integer[] batch = {0, 1, 2, 3, 4, 5};
+        assertThrows(IndexOutOfBoundsException.class, () -> {queue.offer(batch, 7);});
+        assertEquals(6, queue.offer(batch, 6));
+        assertEquals(2, queue.offer(batch, 6));
+        assertEquals(0, queue.offer(batch, 6));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertEquals(0, queue.poll());
+        assertEquals(1, queue.poll());
+    }
+
+    @Test
+    public void testDrainMethod() {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        AtomicInteger expected = new AtomicInteger(0);
+        assertEquals(3, queue.drain(element -> assertEquals(expected.getAndIncrement(), element), 3));
+        assertEquals(2, queue.drain(element -> assertEquals(expected.getAndIncrement(), element), 10));
+        assertEquals(0, queue.drain(element -> {}, 10));
+
+        queue.offer(5);
+        queue.offer(6);
+        assertThrows(IllegalStateException.class, () -> {
+            queue.drain(element -> {throw new IllegalStateException();}, 10);
+        });
+        assertEquals(6, queue.poll());
+    }
+
+    @Test
+    public void testProducerConsumerHandoff() throws InterruptedException {
+        SpscArrayQueue<Integer> sharedQueue = new SpscArrayQueue<>(128);
+        int total = 1000000;
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[32];
+            int next = 0;
+            while (next < total) {
+                int n = Math.min(batch.length, total - next);
+                for (int i = 0; i < n; i++) {
+                    batch[i] = next + i;
+                }
+                int offered = sharedQueue.offer(batch, n);
+                next += offered;
+                // Yields rather than spins so the other side runs promptly even on a single processor
+                if (offered == 0) Thread.yield();
+            }
+        });
+        int[] received = new int[1];
+        boolean[] ordered = {true};
+        Thread consumer = new Thread(() -> {
+            while (received[0] < total) {
+                int drained = sharedQueue.drain(element -> {
+                    if (element != received[0]) ordered[0] = false;
+                    received[0]++;
+                }, 64);
+                if (drained == 0) Thread.yield();
+            }
+        });
+        producer.setDaemon(true);
+        consumer.setDaemon(true);
+        producer.start();
+        consumer.start();
+        producer.join(TimeUnit.SECONDS.toMillis(60));
+        consumer.join(TimeUnit.SECONDS.toMillis(60));
+        assertFalse(producer.isAlive() || consumer.isAlive());
+
+        assertEquals(total, received[0]);
+        assertTrue(ordered[0]);
+        assertTrue(sharedQueue.isEmpty());
+    }
+}
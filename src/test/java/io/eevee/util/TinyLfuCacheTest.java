@@ -0,0 +1,114 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Integer;
+import java.lang.String;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the TinyLfuCache class.
+ */
+public class TinyLfuCacheTest {
+
+    private TinyLfuCache<Integer, String> cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new TinyLfuCache<>(100);
+        for (int i = 0; i < 3; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+    }
+
+    @Test
+    public void testGetMethodCountsHitsAndMisses() {
+        assertEquals("0", cache.get(0));
+        assertEquals("2", cache.get(2));
+        assertNull(cache.get(3));
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertThrows(NullPointerException.class, () -> {cache.get(null);});
+    }
+
+    @Test
+    public void testPutMethodReplacesValue() {
+        cache.put(1, "one");
+        assertEquals("one", cache.get(1));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testRemoveMethod() {
+        cache.remove(1);
+        cache.remove(1);
+        assertEquals(2, cache.size());
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testClearMethod() {
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    public void testCacheStaysWithinMaxSize() {
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, String.valueOf(i));
+            cache.get(i / 2);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(10000 - 100, cache.evictionCount());
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesSurviveScans() {
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.get(i) == null) cache.put(i, String.valueOf(i));
+            }
+        }
+        for (int i = 1000; i < 2000; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        // The sketch is approximate so a scan key colliding with a hot key may occasionally displace it
+        int survivors = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get(i) != null) survivors++;
+        }
+        assertTrue(survivors >= 45);
+    }
+
+    // Replays a trace of a small hot set interleaved with scans of keys seen only once against both caches
+    @Test
+    public void testHitRateExceedsLruOnScanHeavyTrace() {
+        TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(100);
+        LruCache<Integer, Integer> lru = new LruCache<>(100, (key, value) -> 1, 1);
+        Random random = new Random(104729);
+        int nextScanKey = 1000;
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 200; i++) {
+                int key = random.nextInt(80);
+                if (tinyLfu.get(key) == null) tinyLfu.put(key, key);
+                if (lru.get(key) == null) lru.put(key, key);
+            }
+            for (int i = 0; i < 300; i++) {
+                int key = nextScanKey++;
+                if (tinyLfu.get(key) == null) tinyLfu.put(key, key);
+                if (lru.get(key) == null) lru.put(key, key);
+            }
+        }
+
+        double tinyLfuHitRate = (double) tinyLfu.hitCount() / (tinyLfu.hitCount() + tinyLfu.missCount());
+        double lruHitRate = (double) lru.hitCount() / (lru.hitCount() + lru.missCount());
+        assertTrue(tinyLfuHitRate > lruHitRate + 0.10);
+    }
+}
@@ -0,0 +1,151 @@
+package io.eevee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.IndexOutOfBoundsException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the UnrolledLinkedList class.
+ */
+public class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> emptyList;
+    private UnrolledLinkedList<Integer> multiElementList;
+
+    @BeforeEach
+    public void setup() {
+        emptyList = toList(IntStream.empty().toArray());
+        multiElementList = toList(IntStream.range(0, 3).toArray());
+    }
+
+    private UnrolledLinkedList<Integer> toList(int[] array) {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (int i : array) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    private void compare(UnrolledLinkedList<Integer> list, int[] array) {
+        list.assertInvarients();
+        assertEquals(array.length, list.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], list.get(i));
+        }
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testAddMethods() {
+        multiElementList.addFirst(-1);
+        multiElementList.add(2, 5);
+        multiElementList.add(5, 6);
+        multiElementList.add(7);
+        compare(multiElementList, IntStream.of(-1,0,5,1,2,6,7).toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.add(1, 0);});
+    }
+
+    @Test
+    public void testAppendsPackChunksFull() {
+        UnrolledLinkedList<Integer> appended = toList(IntStream.range(0, 640).toArray());
+        compare(appended, IntStream.range(0, 640).toArray());
+        assertEquals(10, appended.chunkCount());
+
+        UnrolledLinkedList<Integer> prepended = new UnrolledLinkedList<>();
+        for (int i = 639; i >= 0; i--) {
+            prepended.addFirst(i);
+        }
+        compare(prepended, IntStream.range(0, 640).toArray());
+        assertEquals(10, prepended.chunkCount());
+    }
+
+    @Test
+    public void testMiddleInsertsSplitChunks() {
+        UnrolledLinkedList<Integer> list = toList(IntStream.range(0, 128).toArray());
+        assertEquals(2, list.chunkCount());
+        list.add(10, -1);
+        assertEquals(3, list.chunkCount());
+        list.add(40, -2);
+        assertEquals(3, list.chunkCount());
+        assertEquals(-1, list.get(10));
+        assertEquals(-2, list.get(40));
+        list.assertInvarients();
+    }
+
+    @Test
+    public void testRemovalsMergeChunks() {
+        UnrolledLinkedList<Integer> list = toList(IntStream.range(0, 256).toArray());
+        assertEquals(4, list.chunkCount());
+        for (int i = 0; i < 250; i++) {
+            list.remove(list.size() / 2);
+        }
+        compare(list, IntStream.of(0,1,2,253,254,255).toArray());
+        assertEquals(1, list.chunkCount());
+        while (list.size() > 0) {
+            list.removeFirst();
+        }
+        assertEquals(0, list.chunkCount());
+        assertThrows(NoSuchElementException.class, () -> {list.removeLast();});
+    }
+
+    @Test
+    public void testRandomEditsMatchJavaList() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7919);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            }
+        }
+        compare(list, expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    public void testGetAndSetMethods() {
+        assertThrows(IndexOutOfBoundsException.class, () -> {emptyList.get(0);});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getFirst();});
+        assertThrows(NoSuchElementException.class, () -> {emptyList.getLast();});
+        multiElementList.set(1, 9);
+        assertEquals(0, multiElementList.getFirst());
+        assertEquals(2, multiElementList.getLast());
+        compare(multiElementList, IntStream.of(0,9,2).toArray());
+    }
+
+    @Test
+    public void testContainsAndRemoveElementMethods() {
+        assertTrue(multiElementList.contains(2));
+        assertFalse(multiElementList.contains(3));
+        multiElementList.remove(Integer.valueOf(1));
+        multiElementList.remove(Integer.valueOf(7));
+        compare(multiElementList, IntStream.of(0,2).toArray());
+        multiElementList.clear();
+        compare(multiElementList, IntStream.empty().toArray());
+        assertThrows(NoSuchElementException.class, () -> {emptyList.iterator().next();});
+    }
+}